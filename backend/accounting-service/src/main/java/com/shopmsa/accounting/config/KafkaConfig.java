@@ -12,17 +12,21 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
+import com.shopmsa.accounting.event.EventEnvelope;
+import com.shopmsa.accounting.event.EventEnvelopeSerializer;
+
 @Configuration
 public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
     
     @Bean
-    ProducerFactory<String, String> producerFactory() {
+    ProducerFactory<String, EventEnvelope> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // 키: 집계 ID / 값: EventEnvelope 바이너리
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventEnvelopeSerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         
@@ -30,7 +34,7 @@ public class KafkaConfig {
     }
     
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, EventEnvelope> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
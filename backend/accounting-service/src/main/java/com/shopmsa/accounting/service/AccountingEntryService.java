@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.shopmsa.accounting.dto.AccountingEntryRequest;
 import com.shopmsa.accounting.dto.AccountingEntryResponse;
 import com.shopmsa.accounting.entity.AccountingEntry;
+import com.shopmsa.accounting.event.EventEnvelope;
 import com.shopmsa.accounting.exception.AccountingEntryNotFoundException;
 import com.shopmsa.accounting.repository.AccountingEntryRepository;
 
@@ -24,8 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Transactional(readOnly = true)
 public class AccountingEntryService {
+    private static final String EVENTS_TOPIC = "accounting-events";
+
     private final AccountingEntryRepository entryRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
     
     @Transactional
     @CacheEvict(value = "accounting-entries", allEntries = true)
@@ -52,7 +55,7 @@ public class AccountingEntryService {
         
         AccountingEntry saved = entryRepository.save(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_CREATED:" + saved.getId());
+        publishEvent(EventEnvelope.of("ENTRY_CREATED", saved.getId()));
         
         return AccountingEntryResponse.from(saved);
     }
@@ -116,7 +119,7 @@ public class AccountingEntryService {
         
         AccountingEntry updated = entryRepository.save(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_UPDATED:" + updated.getId());
+        publishEvent(EventEnvelope.of("ENTRY_UPDATED", updated.getId()));
         
         return AccountingEntryResponse.from(updated);
     }
@@ -135,7 +138,7 @@ public class AccountingEntryService {
         entry.setStatus(AccountingEntry.EntryStatus.POSTED);
         AccountingEntry updated = entryRepository.save(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_POSTED:" + updated.getId());
+        publishEvent(EventEnvelope.of("ENTRY_POSTED", updated.getId()));
         
         return AccountingEntryResponse.from(updated);
     }
@@ -154,7 +157,7 @@ public class AccountingEntryService {
         entry.setStatus(AccountingEntry.EntryStatus.APPROVED);
         AccountingEntry updated = entryRepository.save(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_APPROVED:" + updated.getId());
+        publishEvent(EventEnvelope.of("ENTRY_APPROVED", updated.getId()));
         
         return AccountingEntryResponse.from(updated);
     }
@@ -173,7 +176,7 @@ public class AccountingEntryService {
         
         AccountingEntry updated = entryRepository.save(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_REJECTED:" + updated.getId());
+        publishEvent(EventEnvelope.of("ENTRY_REJECTED", updated.getId()));
         
         return AccountingEntryResponse.from(updated);
     }
@@ -191,6 +194,13 @@ public class AccountingEntryService {
         
         entryRepository.delete(entry);
         
-        kafkaTemplate.send("accounting-events", "ENTRY_DELETED:" + id);
+        publishEvent(EventEnvelope.of("ENTRY_DELETED", id));
+    }
+
+    /**
+     * 이벤트 발행 (집계 ID 를 메시지 키로 사용 - 같은 집계의 이벤트는 같은 파티션에서 순서 유지)
+     */
+    private void publishEvent(EventEnvelope event) {
+        kafkaTemplate.send(EVENTS_TOPIC, event.aggregateId(), event);
     }
 }
@@ -0,0 +1,27 @@
+package com.shopmsa.gateway.accesslog;
+
+/**
+ * 요청 단위 Access Log 레코드
+ * 이벤트 루프에서는 값만 채우고 문자열 포맷은 기록 스레드에서 수행
+ *
+ * @param timestamp      요청 시작 시각 (epoch ms)
+ * @param method         HTTP Method
+ * @param path           요청 경로 (쿼리 스트링 제외)
+ * @param status         응답 상태 코드 (없으면 0)
+ * @param durationMicros 처리 시간 (μs)
+ * @param routeId        매칭된 Route ID
+ * @param clientIp       클라이언트 IP
+ * @param requestId      Request ID
+ * @param signal         완료 시그널 (onComplete / onError / cancel)
+ */
+public record AccessLogRecord(
+        long timestamp,
+        String method,
+        String path,
+        int status,
+        long durationMicros,
+        String routeId,
+        String clientIp,
+        String requestId,
+        String signal) {
+}
@@ -0,0 +1,144 @@
+package com.shopmsa.gateway.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.shopmsa.gateway.config.AccessLogProperties;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 Access Log 기록기
+ *
+ * 이벤트 루프는 고정 크기 버퍼에 레코드를 offer 만 하고 (가득 차면 버리고 카운트),
+ * 전용 스레드가 버퍼를 batchSize 개씩 비우면서 레코드마다 JSON 한 줄을 ACCESS_LOG 로거에 출력한다.
+ * (로그 이벤트 하나 = 레코드 하나 - 로그 패턴의 시각 / 레벨 접두사가 줄마다 붙음)
+ * 로그 I/O 가 Netty 스레드를 막는 일이 없음.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private final AccessLogProperties properties;
+    private final BlockingQueue<AccessLogRecord> buffer;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.droppedCounter = Counter.builder("gateway.access.log.dropped")
+                .description("Access log records dropped because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 레코드 추가 (논블로킹 - 버퍼가 가득 차면 버림)
+     */
+    public void append(AccessLogRecord record) {
+        if (!buffer.offer(record)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(properties.getBatchSize());
+        StringBuilder line = new StringBuilder(256);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AccessLogRecord first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch, line);
+            } catch (InterruptedException e) {
+                // 종료 요청 - 남은 레코드는 루프 조건에 따라 모두 기록
+                running = false;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write access log batch: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AccessLogRecord> batch, StringBuilder line) {
+        for (AccessLogRecord record : batch) {
+            line.setLength(0);
+            appendJson(line, record);
+            ACCESS_LOG.info(line.toString());
+        }
+    }
+
+    private static void appendJson(StringBuilder out, AccessLogRecord record) {
+        out.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.timestamp())).append('"');
+        appendField(out, "method", record.method());
+        appendField(out, "path", record.path());
+        out.append(",\"status\":").append(record.status());
+        out.append(",\"durationUs\":").append(record.durationMicros());
+        appendField(out, "route", record.routeId());
+        appendField(out, "clientIp", record.clientIp());
+        appendField(out, "requestId", record.requestId());
+        appendField(out, "signal", record.signal());
+        out.append('}');
+    }
+
+    private static void appendField(StringBuilder out, String name, String value) {
+        out.append(",\"").append(name).append("\":");
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,13 @@
+package com.shopmsa.gateway.cache;
+
+import com.shopmsa.gateway.support.CapturedResponse;
+
+import java.time.Duration;
+
+/**
+ * 캐시된 응답 (직렬화된 바디 바이트 그대로 보관)
+ *
+ * @param path 무효화 매칭에 사용하는 요청 경로
+ */
+public record CachedResponse(String path, CapturedResponse response, Duration ttl) {
+}
@@ -0,0 +1,53 @@
+package com.shopmsa.gateway.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import com.shopmsa.gateway.config.ResponseCacheProperties;
+
+import java.time.Duration;
+
+/**
+ * 응답 캐시 무효화 구독
+ * 서비스가 쓰기 작업 커밋 후 발행한 경로 메시지를 받아 해당 경로의 캐시를 제거
+ * (구독이 끊겼다가 다시 연결되면 놓친 메시지가 있을 수 있으므로 캐시 전체를 비움)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheInvalidationListener {
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ResponseCacheStore cacheStore;
+    private final ResponseCacheProperties properties;
+
+    private Disposable subscription;
+
+    @PostConstruct
+    void subscribe() {
+        subscription = listenerContainer.receive(ChannelTopic.of(properties.getInvalidationChannel()))
+                .doOnNext(message -> {
+                    log.debug("Response cache invalidated: {}", message.getMessage());
+                    cacheStore.invalidate(message.getMessage());
+                })
+                // (재)구독 시점에는 그동안 놓친 메시지가 있을 수 있으므로 전체 제거
+                .doOnSubscribe(s -> cacheStore.invalidate("*"))
+                .doOnError(error -> log.warn("Response cache invalidation subscription failed: {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.shopmsa.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import com.shopmsa.gateway.config.ResponseCacheProperties;
+
+/**
+ * Gateway 응답 캐시 저장소
+ * 바디 바이트 기준 크기 제한 + 엔트리별 TTL (Route 마다 다른 TTL 을 쓰기 위해 Expiry 사용)
+ */
+@Slf4j
+@Component
+public class ResponseCacheStore {
+
+    // 키 / 헤더 / 객체 헤더 등 바디 외 메모리 사용량 추정치
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCacheStore(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, CachedResponse value) -> ENTRY_OVERHEAD + key.length() + value.response().body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return value.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                                                  long currentDuration) {
+                        return value.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * 경로 단위 무효화
+     * "/api/users/1" 은 "/api/users/1" 과 "/api/users/1/..." 만 제거 ("/api/users/10" 은 유지)
+     * "*" 는 전체 제거
+     */
+    public void invalidate(String path) {
+        if ("*".equals(path)) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.asMap().values().removeIf(entry -> matches(entry.path(), path));
+    }
+
+    private static boolean matches(String cachedPath, String path) {
+        return cachedPath.startsWith(path)
+                && (cachedPath.length() == path.length() || cachedPath.charAt(path.length()) == '/');
+    }
+}
@@ -0,0 +1,108 @@
+package com.shopmsa.gateway.concurrency;
+
+import com.shopmsa.gateway.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Route 단위 적응형 동시 처리 한도 (AIMD, RTT 기반)
+ *
+ * - 응답 시간이 기준 RTT(윈도우 내 최소 RTT) x rtt-tolerance 이내이고 한도의 절반 이상을 쓰고 있으면 한도 +1
+ * - 기준을 넘거나 오류(5xx, 타임아웃)면 한도 x backoff-ratio (RTT 한 번에 최대 한 번만 감소)
+ * - 기준 RTT 는 rtt-window 마다 해당 윈도우의 최소값으로 갱신 (서비스의 정상 응답 시간 변화 반영)
+ *
+ * 판정(tryAcquire)은 lock-free, 한도 갱신(onSample)만 동기화
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final long rttWindowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 아래 필드는 onSample 안에서만 접근 (synchronized)
+    private double estimatedLimit;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long windowStartNanos = System.nanoTime();
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.rttWindowNanos = properties.getRttWindow().toNanos();
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * 우선순위별 허용 한도 안이면 진행 중 요청 수를 늘리고 true
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = allowed(priority);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 요청 완료 - 측정한 RTT 로 한도 갱신
+     *
+     * @param inFlightAtStart 요청 시작 시점의 진행 중 요청 수
+     * @param dropped         과부하 신호 (5xx / 타임아웃 / 오류)
+     */
+    public void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+        onSample(rttNanos, inFlightAtStart, dropped);
+    }
+
+    /**
+     * 요청 완료 - 한도 갱신 없이 (클라이언트 취소, 업스트림 미호출 등 RTT 표본이 없는 경우)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private int allowed(RequestPriority priority) {
+        int current = limit;
+        return switch (priority) {
+            case CRITICAL -> current + Math.max(1, (int) (current * properties.getCriticalReserve()));
+            case NORMAL -> current;
+            case LOW -> Math.max(1, (int) (current * properties.getLowPriorityShare()));
+        };
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        long now = System.nanoTime();
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (baselineRttNanos == Long.MAX_VALUE || now - windowStartNanos >= rttWindowNanos) {
+            baselineRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowStartNanos = now;
+        }
+
+        boolean congested = dropped || rttNanos > baselineRttNanos * properties.getRttTolerance();
+        if (congested) {
+            if (now - lastDecreaseNanos >= rttNanos) {
+                estimatedLimit = Math.max(properties.getMinLimit(), estimatedLimit * properties.getBackoffRatio());
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlightAtStart * 2 >= estimatedLimit) {
+            estimatedLimit = Math.min(properties.getMaxLimit(), estimatedLimit + 1);
+        }
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,61 @@
+package com.shopmsa.gateway.concurrency;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.shopmsa.gateway.config.ConcurrencyLimitProperties;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 우선순위 분류 (설정 순서대로 처음 일치하는 규칙, 없으면 NORMAL)
+ * 규칙은 시작 시점에 한 번만 컴파일
+ */
+public final class PriorityClassifier {
+
+    private final List<Rule> rules;
+
+    private PriorityClassifier(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static PriorityClassifier compile(List<ConcurrencyLimitProperties.PriorityRule> rules) {
+        return new PriorityClassifier(rules.stream()
+                .map(rule -> new Rule(
+                        rule.getPriority(),
+                        rule.getMethods().stream().map(HttpMethod::valueOf).collect(Collectors.toUnmodifiableSet()),
+                        rule.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList()))
+                .toList());
+    }
+
+    public RequestPriority classify(ServerHttpRequest request) {
+        for (Rule rule : rules) {
+            if (rule.matches(request)) {
+                return rule.priority();
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private record Rule(RequestPriority priority, Set<HttpMethod> methods, List<PathPattern> paths) {
+
+        boolean matches(ServerHttpRequest request) {
+            if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+                return false;
+            }
+            if (paths.isEmpty()) {
+                return true;
+            }
+            for (PathPattern pattern : paths) {
+                if (pattern.matches(request.getPath().pathWithinApplication())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.shopmsa.gateway.concurrency;
+
+/**
+ * 요청 우선순위 (과부하 시 LOW -> NORMAL -> CRITICAL 순으로 거절)
+ */
+public enum RequestPriority {
+
+    // 헬스 체크, 결제 완료 등 - 동시 처리 한도를 넘어 예비 여유분까지 사용
+    CRITICAL,
+
+    // 일반 요청 - 동시 처리 한도까지
+    NORMAL,
+
+    // 목록 조회 등 미뤄도 되는 요청 - 한도의 일부만 사용
+    LOW
+}
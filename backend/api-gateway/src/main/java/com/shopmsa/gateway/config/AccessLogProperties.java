@@ -0,0 +1,31 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Access Log 설정
+ * gateway.access-log.* 프로퍼티로 버퍼 크기 / 샘플링 비율 / 느린 요청 기준 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    // 이벤트 루프와 기록 스레드 사이의 버퍼 크기 (가득 차면 기록을 버림 - 요청은 절대 대기하지 않음)
+    private int bufferSize = 8192;
+
+    // 버퍼에서 한 번에 꺼내 기록할 최대 레코드 수 (레코드마다 로그 이벤트 하나)
+    private int batchSize = 256;
+
+    // 2xx / 3xx 응답 샘플링 비율 (0.0 ~ 1.0)
+    private double successSampleRate = 0.1;
+
+    // 이 시간 이상 걸린 요청은 상태 코드와 관계없이 항상 기록
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,36 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스 OpenAPI 문서 통합 설정
+ * Gateway 가 서비스 문서를 주기적으로 가져와 합친 뒤 직렬화된 바이트로 보관하고 /api-docs/** 로 제공
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.api-docs")
+public class ApiDocsProperties {
+
+    private boolean enabled = true;
+
+    // 문서를 가져올 Route ID (업스트림 주소는 Route URI 사용)
+    private List<String> routes = new ArrayList<>();
+
+    // 서비스의 springdoc 문서 경로
+    private String path = "/v3/api-docs";
+
+    // 백그라운드 갱신 주기 (Route 변경 시에는 즉시 갱신)
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // 통합 문서 info
+    private String title = "Shop MSA API";
+    private String version = "1.0.0";
+}
@@ -0,0 +1,33 @@
+package com.shopmsa.gateway.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.shopmsa.gateway.handler.ApiDocsHandler;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * 통합 OpenAPI 문서 Router 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ApiDocsProperties.class)
+public class ApiDocsRouterConfig {
+
+    private final ApiDocsHandler apiDocsHandler;
+
+    /**
+     * /api-docs/merged - 전체 서비스 통합 문서
+     * /api-docs/{route} - 서비스별 문서 (swagger-ui 서비스 선택용)
+     */
+    @Bean
+    RouterFunction<ServerResponse> apiDocsRoutes() {
+        return RouterFunctions.route(GET("/api-docs/{name}"), apiDocsHandler::document);
+    }
+}
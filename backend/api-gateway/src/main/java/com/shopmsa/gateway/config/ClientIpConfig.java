@@ -0,0 +1,23 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.shopmsa.gateway.support.TrustedProxies;
+
+/**
+ * 클라이언트 IP 판별 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ClientIpProperties.class)
+public class ClientIpConfig {
+
+    /**
+     * X-Forwarded-For 를 신뢰할 프록시 대역
+     */
+    @Bean
+    TrustedProxies trustedProxies(ClientIpProperties properties) {
+        return TrustedProxies.of(properties.getTrustedProxies());
+    }
+}
@@ -0,0 +1,27 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 IP 판별 설정
+ * 신뢰하는 프록시(Ingress, LB)에서 온 요청만 X-Forwarded-For / X-Real-IP 를 사용
+ * (그 외에는 클라이언트가 헤더를 위조할 수 있으므로 Remote Address 사용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.client-ip")
+public class ClientIpProperties {
+
+    // 신뢰하는 프록시 주소 / CIDR 대역 (기본: 루프백 + 사설망)
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "127.0.0.0/8",
+            "10.0.0.0/8",
+            "172.16.0.0/12",
+            "192.168.0.0/16",
+            "::1/128"));
+}
@@ -0,0 +1,23 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.shopmsa.gateway.concurrency.PriorityClassifier;
+
+/**
+ * 적응형 동시 처리 한도 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 요청 우선순위 분류기 (설정을 시작 시점에 한 번 컴파일)
+     */
+    @Bean
+    PriorityClassifier priorityClassifier(ConcurrencyLimitProperties properties) {
+        return PriorityClassifier.compile(properties.getPriorities());
+    }
+}
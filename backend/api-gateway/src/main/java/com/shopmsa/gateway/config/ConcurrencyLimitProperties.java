@@ -0,0 +1,65 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.shopmsa.gateway.concurrency.RequestPriority;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route 별 적응형 동시 처리 한도 설정
+ * gateway.concurrency-limit.* 프로퍼티로 한도 범위 / AIMD 계수 / 우선순위 규칙 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // 적용할 Route ID (비우면 모든 Route)
+    private List<String> routes = new ArrayList<>();
+
+    // 동시 처리 한도 범위
+    private int initialLimit = 20;
+    private int minLimit = 5;
+    private int maxLimit = 200;
+
+    // 과부하 신호 시 한도 감소 비율
+    private double backoffRatio = 0.9;
+
+    // 기준 RTT 대비 이 배수를 넘으면 과부하로 판단
+    private double rttTolerance = 2.0;
+
+    // 기준 RTT(최소 RTT) 갱신 주기
+    private Duration rttWindow = Duration.ofSeconds(30);
+
+    // LOW 요청이 쓸 수 있는 한도 비율
+    private double lowPriorityShare = 0.7;
+
+    // CRITICAL 요청에 추가로 허용하는 한도 비율
+    private double criticalReserve = 0.2;
+
+    // 거절 시 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // 우선순위 규칙 (위에서부터 처음 일치하는 규칙 적용, 없으면 NORMAL)
+    private List<PriorityRule> priorities = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class PriorityRule {
+
+        private RequestPriority priority = RequestPriority.NORMAL;
+
+        // 비우면 모든 Method
+        private List<String> methods = new ArrayList<>();
+
+        // 비우면 모든 경로
+        private List<String> paths = new ArrayList<>();
+    }
+}
@@ -0,0 +1,12 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조건부 GET (ETag / 304) 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ConditionalGetProperties.class)
+public class ConditionalGetConfig {
+}
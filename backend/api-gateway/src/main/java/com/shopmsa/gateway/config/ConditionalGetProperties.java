@@ -0,0 +1,21 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 조건부 GET (ETag / 304) 설정
+ * 응답 압축은 server.compression (Reactor Netty) 에서 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.conditional-get")
+public class ConditionalGetProperties {
+
+    private boolean enabled = true;
+
+    // ETag 계산을 위해 바디를 모으는 최대 크기 (초과하면 ETag 없이 그대로 스트리밍)
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
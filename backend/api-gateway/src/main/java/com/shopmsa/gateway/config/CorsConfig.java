@@ -34,15 +34,23 @@ public class CorsConfig {
                 "Content-Type",
                 "X-Requested-With",
                 "X-Request-ID",
-                "X-Correlation-ID"
+                "X-Correlation-ID",
+                "Idempotency-Key",
+                "If-None-Match"
         ));
         
         // 노출할 헤더 (클라이언트가 읽을 수 있는 헤더)
         corsConfig.setExposedHeaders(Arrays.asList(
                 "X-Request-ID",
                 "X-Correlation-ID",
+                "X-Cache",
+                "ETag",
+                "Idempotency-Replayed",
+                "X-Rate-Limit-Limit",
                 "X-Rate-Limit-Remaining",
-                "X-Rate-Limit-Reset"
+                "X-Rate-Limit-Reset",
+                "X-Rate-Limit-Retry-After",
+                "Retry-After"
         ));
         
         // 인증 정보 포함 허용
@@ -9,8 +9,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import com.shopmsa.gateway.handler.FallbackHandler;
 
-import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
-import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.path;
 
 /**
  * Fallback Router 설정
@@ -22,31 +21,12 @@ public class FallbackRouterConfig {
 
     private final FallbackHandler fallbackHandler;
 
+    /**
+     * /fallback/{service} - 서비스별 응답은 FallbackHandler 의 테이블에서 조회
+     * (forward 는 원래 요청의 Method 를 유지하므로 Method 는 구분하지 않음)
+     */
     @Bean
     RouterFunction<ServerResponse> fallbackRoutes() {
-        return RouterFunctions
-                // Payment Service Fallback
-                .route(GET("/fallback/payment"), fallbackHandler::paymentServiceFallback)
-                .andRoute(POST("/fallback/payment"), fallbackHandler::paymentServiceFallback)
-                
-                // User Service Fallback
-                .andRoute(GET("/fallback/user"), fallbackHandler::userServiceFallback)
-                .andRoute(POST("/fallback/user"), fallbackHandler::userServiceFallback)
-                
-                // Settlement Service Fallback
-                .andRoute(GET("/fallback/settlement"), fallbackHandler::settlementServiceFallback)
-                .andRoute(POST("/fallback/settlement"), fallbackHandler::settlementServiceFallback)
-                
-                // Partner Service Fallback
-                .andRoute(GET("/fallback/partner"), fallbackHandler::partnerServiceFallback)
-                .andRoute(POST("/fallback/partner"), fallbackHandler::partnerServiceFallback)
-                
-                // Accounting Service Fallback
-                .andRoute(GET("/fallback/accounting"), fallbackHandler::accountingServiceFallback)
-                .andRoute(POST("/fallback/accounting"), fallbackHandler::accountingServiceFallback)
-                
-                // Default Fallback
-                .andRoute(GET("/fallback/default"), fallbackHandler::defaultFallback)
-                .andRoute(POST("/fallback/default"), fallbackHandler::defaultFallback);
+        return RouterFunctions.route(path("/fallback/{service}"), fallbackHandler::fallback);
     }
 }
@@ -0,0 +1,25 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hedged Request 설정
+ * 적용 여부 / 지연 기준은 Route 의 Hedge 필터로 지정하고, 여기서는 보조 요청용 커넥션 풀을 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    // 보조 요청 전용 커넥션 풀 (느린 업스트림에 묶인 기본 풀 커넥션을 보조 요청에 다시 쓰지 않도록 분리)
+    private int maxConnections = 200;
+    private int pendingAcquireMaxCount = 400;
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration responseTimeout = Duration.ofSeconds(10);
+}
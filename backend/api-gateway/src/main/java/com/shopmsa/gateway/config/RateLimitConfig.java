@@ -0,0 +1,83 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.shopmsa.gateway.ratelimit.LocalAggregatingRateLimiter;
+import com.shopmsa.gateway.ratelimit.QuotaPolicyTable;
+
+import java.util.List;
+
+/**
+ * Rate Limiting 설정
+ * Token Bucket Lua 스크립트 및 Rate Limiter 모드(EXACT / LOCAL) 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    /**
+     * Route / Method / Principal 별 정책 조회 테이블
+     * 설정을 시작 시점에 한 번 컴파일해 요청마다 문자열 비교 없이 조회
+     */
+    @Bean
+    QuotaPolicyTable quotaPolicyTable(RateLimitProperties properties) {
+        return QuotaPolicyTable.compile(properties);
+    }
+
+    /**
+     * Token Bucket 스크립트
+     * ReactiveRedisTemplate.execute() 는 EVALSHA 로 실행하고
+     * 스크립트 캐시에 없을 때만 EVAL 로 재시도
+     */
+    @Bean
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    RedisScript<List<Long>> requestRateLimiterScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("scripts/request_rate_limiter.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * Token Bucket 일괄 동기화 스크립트 (LOCAL 모드)
+     */
+    @Bean
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    RedisScript<List<Long>> requestRateLimiterBatchScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("scripts/request_rate_limiter_batch.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * Token Bucket 다중 판정 스크립트 (Redis 마이크로 배칭)
+     */
+    @Bean
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    RedisScript<List<Long>> requestRateLimiterMultiScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("scripts/request_rate_limiter_multi.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * 로컬 집계 Rate Limiter
+     * gateway.rate-limit.mode=local 인 경우에만 등록되며 EXACT 구현보다 우선 사용
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "gateway.rate-limit", name = "mode", havingValue = "local")
+    LocalAggregatingRateLimiter localAggregatingRateLimiter(RedisTokenBucketRateLimiter redisRateLimiter,
+                                                          RateLimitProperties properties) {
+        return new LocalAggregatingRateLimiter(redisRateLimiter, properties.getLocal());
+    }
+}
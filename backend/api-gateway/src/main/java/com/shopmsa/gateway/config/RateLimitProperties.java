@@ -0,0 +1,115 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.shopmsa.gateway.ratelimit.BucketSpec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Limiting 설정
+ * gateway.rate-limit.* 프로퍼티로 Token Bucket 용량과 리필 속도를 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    // 버킷 최대 토큰 수 (순간적으로 허용되는 최대 버스트)
+    private long capacity = 100;
+
+    // refillPeriod 동안 채워지는 토큰 수
+    private long refillTokens = 100;
+
+    // 리필 주기 (기본 1분 - 기존 분당 100회 제한과 동일한 평균 속도)
+    private Duration refillPeriod = Duration.ofMinutes(1);
+
+    // Redis 응답 타임아웃 (초과 시 Fail-Open)
+    private Duration redisTimeout = Duration.ofSeconds(2);
+
+    // 판정 모드 (EXACT: 매 요청 Redis 판정, LOCAL: Pod 로컬 판정 + 주기적 동기화)
+    private Mode mode = Mode.EXACT;
+
+    // LOCAL 모드 설정
+    private Local local = new Local();
+
+    // API Key / 사용자 식별 헤더 (principal 단위 정책에 사용)
+    private String principalHeader = "X-API-Key";
+
+    // Route / HTTP Method / Principal 별 정책 (더 구체적인 정책이 우선)
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * 기본 버킷 설정
+     */
+    public BucketSpec defaultBucket() {
+        return BucketSpec.of(capacity, refillTokens, refillPeriod);
+    }
+
+    public enum Mode {
+        EXACT, LOCAL
+    }
+
+    /**
+     * 버킷 키 기준
+     */
+    public enum KeyType {
+        // 클라이언트 IP 단위
+        IP,
+        // API Key / 사용자 단위 (식별 헤더가 없으면 IP 단위)
+        PRINCIPAL
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        // 정책 ID (Redis 버킷 키에 포함되므로 정책마다 고유해야 함)
+        private String id;
+
+        // 대상 Route ID (비어 있으면 전체 Route)
+        private String routeId;
+
+        // 대상 HTTP Method (비어 있으면 전체 Method)
+        private List<String> methods = new ArrayList<>();
+
+        // 특정 API Key / 사용자 전용 정책 (비어 있으면 전체)
+        private String principal;
+
+        private KeyType keyType = KeyType.IP;
+
+        private long capacity = 100;
+
+        private long refillTokens = 100;
+
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public BucketSpec bucket() {
+            return BucketSpec.of(capacity, refillTokens, refillPeriod);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Local {
+
+        // 로컬 집계분을 Redis 에 반영하고 전역 잔여 토큰을 받아오는 주기
+        private Duration syncInterval = Duration.ofMillis(100);
+
+        // 로컬 소비분이 없는 버킷의 전역 잔여 토큰 갱신 주기 (다른 Pod 의 소비분이 반영되는 지연)
+        private Duration refreshInterval = Duration.ofSeconds(1);
+
+        // 한 번의 EVALSHA 로 동기화할 최대 버킷 수
+        private int syncBatchSize = 500;
+
+        // 이 시간 동안 요청이 없는 버킷은 로컬 테이블에서 제거
+        private Duration idleTimeout = Duration.ofMinutes(2);
+
+        // 로컬 테이블 최대 버킷 수 (초과 시 신규 키는 EXACT 판정)
+        private int maxKeys = 100_000;
+    }
+}
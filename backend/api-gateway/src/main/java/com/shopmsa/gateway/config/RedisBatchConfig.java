@@ -0,0 +1,12 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 명령 마이크로 배칭 설정
+ */
+@Configuration
+@EnableConfigurationProperties(RedisBatchProperties.class)
+public class RedisBatchConfig {
+}
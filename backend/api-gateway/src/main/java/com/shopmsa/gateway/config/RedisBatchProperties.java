@@ -0,0 +1,26 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Redis 명령 마이크로 배칭 설정
+ * 동시에 들어온 요청의 Redis 명령을 maxDelay 동안 또는 maxBatchSize 개까지 모아 한 번에 전송
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.redis-batch")
+public class RedisBatchProperties {
+
+    // 비활성화하면 요청마다 개별 명령으로 전송 (기존 동작)
+    private boolean enabled = true;
+
+    // 배치 최대 명령 수 (도달하면 즉시 전송)
+    private int maxBatchSize = 64;
+
+    // 첫 명령이 대기하는 최대 시간 (Redis 왕복 시간보다 충분히 작게)
+    private Duration maxDelay = Duration.ofNanos(200_000);
+}
@@ -0,0 +1,30 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.shopmsa.gateway.support.RandomUuidGenerator;
+import com.shopmsa.gateway.support.RequestIdGenerator;
+import com.shopmsa.gateway.support.TimeOrderedIdGenerator;
+
+/**
+ * Request ID 생성기 설정
+ */
+@Configuration
+public class RequestIdConfig {
+
+    /**
+     * time-ordered : 스레드 로컬 시간 순서 UUID v7 (기본)
+     * random       : UUID.randomUUID() (v4)
+     */
+    @Bean
+    RequestIdGenerator requestIdGenerator(
+            @Value("${gateway.request-id.generator:time-ordered}") String generator) {
+        return switch (generator) {
+            case "time-ordered" -> new TimeOrderedIdGenerator();
+            case "random" -> new RandomUuidGenerator();
+            default -> throw new IllegalArgumentException("Unknown request id generator: " + generator);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Gateway 응답 캐시 설정
+ * 캐시 적용 여부는 Route 의 ResponseCache 필터로 지정하고, 여기서는 저장소 크기 / 기본 TTL / 무효화 채널을 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    // 전체 캐시 크기 (응답 바디 바이트 기준)
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    // 이보다 큰 응답은 캐시하지 않음
+    private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+
+    // Route 필터에 ttl 을 지정하지 않은 경우의 기본 TTL
+    private Duration defaultTtl = Duration.ofSeconds(30);
+
+    // 서비스가 쓰기 작업 후 무효화할 경로를 발행하는 Redis Pub/Sub 채널
+    private String invalidationChannel = "gateway:cache-invalidation";
+}
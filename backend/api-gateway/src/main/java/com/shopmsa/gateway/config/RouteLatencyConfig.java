@@ -0,0 +1,12 @@
+package com.shopmsa.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Route 지연 시간 메트릭 설정
+ */
+@Configuration
+@EnableConfigurationProperties(RouteLatencyProperties.class)
+public class RouteLatencyConfig {
+}
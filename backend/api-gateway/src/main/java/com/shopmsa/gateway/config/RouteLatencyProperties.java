@@ -0,0 +1,34 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route 별 지연 시간 히스토그램 설정
+ * gateway.route-latency.* 프로퍼티로 백분위 / 히스토그램 범위 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.route-latency")
+public class RouteLatencyProperties {
+
+    private boolean enabled = true;
+
+    // Pod 내부에서 계산해 노출할 백분위 (/actuator/routelatency, *_seconds{quantile=...})
+    private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99, 0.999));
+
+    // Prometheus histogram_quantile() 용 버킷 노출 여부 (Pod 간 집계가 필요하면 true)
+    private boolean histogram = true;
+
+    // 히스토그램 버킷 범위 (Gateway 자체 처리 시간은 µs 단위이므로 하한을 낮게 둠)
+    private Duration minimumExpectedValue = Duration.ofNanos(100_000);
+    private Duration maximumExpectedValue = Duration.ofSeconds(30);
+
+    // 백분위 계산 윈도우 (이 시간 동안의 샘플로 p50/p99/p999 계산)
+    private Duration distributionExpiry = Duration.ofMinutes(1);
+}
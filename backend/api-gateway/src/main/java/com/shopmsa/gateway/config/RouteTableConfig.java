@@ -0,0 +1,51 @@
+package com.shopmsa.gateway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.shopmsa.gateway.route.FileRouteDefinitionLocator;
+import com.shopmsa.gateway.route.IndexedRoutePredicateHandlerMapping;
+
+/**
+ * Route 테이블 설정
+ * - 파일 기반 Route 정의 (재시작 없이 반영)
+ * - Path 접두사 인덱스를 사용하는 RoutePredicateHandlerMapping (기본 Bean 대체)
+ */
+@Configuration
+@EnableConfigurationProperties(RouteTableProperties.class)
+public class RouteTableConfig {
+
+    /**
+     * application.yml 의 Route 와 함께 사용됨 (RouteDefinitionLocator Bean 은 모두 합쳐짐)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.route-table.file", name = "enabled", havingValue = "true")
+    FileRouteDefinitionLocator fileRouteDefinitionLocator(RouteTableProperties properties,
+                                                          ApplicationEventPublisher eventPublisher,
+                                                          MeterRegistry meterRegistry) {
+        return new FileRouteDefinitionLocator(properties.getFile(), eventPublisher, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.route-table", name = "index-enabled", havingValue = "true",
+            matchIfMissing = true)
+    RoutePredicateHandlerMapping routePredicateHandlerMapping(FilteringWebHandler webHandler,
+                                                              RouteLocator routeLocator,
+                                                              RouteDefinitionLocator routeDefinitionLocator,
+                                                              GlobalCorsProperties globalCorsProperties,
+                                                              Environment environment,
+                                                              MeterRegistry meterRegistry) {
+        return new IndexedRoutePredicateHandlerMapping(webHandler, routeLocator, routeDefinitionLocator,
+                globalCorsProperties, environment, meterRegistry);
+    }
+}
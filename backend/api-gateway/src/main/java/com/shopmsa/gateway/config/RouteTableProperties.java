@@ -0,0 +1,35 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Route 테이블 설정
+ * gateway.route-table.* 프로퍼티로 파일 기반 Route 정의 / 인덱스 사용 여부 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.route-table")
+public class RouteTableProperties {
+
+    // Path 접두사 인덱스로 후보 Route 만 검사 (false 면 기본 방식 - 모든 Route 를 순서대로 검사)
+    private boolean indexEnabled = true;
+
+    private File file = new File();
+
+    @Getter
+    @Setter
+    public static class File {
+
+        private boolean enabled = false;
+
+        // application.yml 의 routes 와 같은 형식의 YAML 파일 (최상위 키: routes)
+        private String location = "/etc/gateway/routes.yml";
+
+        // 파일 변경 확인 주기 (ConfigMap 은 심볼릭 링크 교체로 갱신되므로 WatchService 대신 주기적으로 비교)
+        private Duration pollInterval = Duration.ofSeconds(5);
+    }
+}
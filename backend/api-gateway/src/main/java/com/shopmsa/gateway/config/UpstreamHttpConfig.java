@@ -0,0 +1,29 @@
+package com.shopmsa.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * Gateway → 서비스 구간 HTTP 설정
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamHttpProperties.class)
+public class UpstreamHttpConfig {
+
+    /**
+     * Gateway HttpClient 에 h2c 적용 (HttpClient 빈을 직접 만들지 않고 Customizer 로 기본 설정에 추가)
+     * HTTP/1.1 도 함께 허용해 h2c 를 지원하지 않는 서비스는 Upgrade 없이 HTTP/1.1 로 통신
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "gateway.upstream", name = "h2c", havingValue = "true")
+    HttpClientCustomizer h2cHttpClientCustomizer() {
+        log.info("Upstream protocol: h2c (HTTP/1.1 fallback)");
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+}
@@ -0,0 +1,43 @@
+package com.shopmsa.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Gateway → 서비스 구간 HTTP 설정
+ * 커넥션 풀 크기 / 수명은 spring.cloud.gateway.server.webflux.httpclient.pool 에서 지정하고,
+ * 여기서는 프로토콜(h2c)과 커넥션 예열을 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.upstream")
+public class UpstreamHttpProperties {
+
+    // h2c (평문 HTTP/2) 사용 - 서비스에 server.http2.enabled=true 필요
+    // 커넥션 하나로 여러 요청을 동시에 처리하므로 커넥션 수 / 핸드셰이크가 줄어듦
+    private boolean h2c = false;
+
+    private Warmup warmup = new Warmup();
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        private boolean enabled = true;
+
+        // Route(업스트림 주소) 별로 미리 열어 둘 커넥션 수 (h2c 는 1 개로 충분)
+        private int connectionsPerRoute = 4;
+
+        // 예열 요청 경로 (DB 등 의존성을 거치지 않는 가벼운 경로)
+        private String path = "/actuator/info";
+
+        // 예열 주기 - max-life-time 으로 교체된 커넥션을 요청이 들어오기 전에 다시 염
+        // (pool.max-idle-time 보다 짧게)
+        private Duration interval = Duration.ofSeconds(20);
+
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+}
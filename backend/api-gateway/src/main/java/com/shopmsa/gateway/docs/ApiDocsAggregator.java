@@ -0,0 +1,238 @@
+package com.shopmsa.gateway.docs;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import com.shopmsa.gateway.config.ApiDocsProperties;
+import com.shopmsa.gateway.support.ETags;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서비스 OpenAPI 문서 통합
+ *
+ * 서비스마다 /v3/api-docs 를 요청할 때마다 springdoc 이 리플렉션으로 문서를 새로 만들기 때문에
+ * swagger-ui 를 여러 명이 새로고침하면 서비스 CPU 가 튐. Gateway 가 시작 시점 / Route 변경 시 / 주기적으로
+ * 한 번씩만 가져와 합친 뒤 직렬화된 바이트로 보관하고, 요청에는 보관 중인 바이트를 그대로 응답.
+ *
+ * - 가져오기에 실패한 서비스는 이전 문서를 유지
+ * - 서비스 간 이름이 같고 내용이 다른 스키마는 "{route}.{이름}" 으로 바꾸고 해당 서비스의 $ref 도 함께 변경
+ * - 통합 문서의 servers 는 Gateway 자신 (swagger-ui 의 Try it out 이 Gateway 를 거치도록)
+ */
+@Slf4j
+@Component
+public class ApiDocsAggregator {
+
+    public static final String MERGED = "merged";
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final ApiDocsProperties properties;
+    private final RouteLocator routeLocator;
+    private final JsonMapper jsonMapper;
+    private final WebClient webClient;
+
+    // 서비스별 원본 문서 (가져오기 실패 시 이전 값 유지)
+    private final Map<String, JsonNode> documents = new LinkedHashMap<>();
+
+    private volatile ApiDocsSnapshot snapshot = ApiDocsSnapshot.EMPTY;
+
+    private Disposable refreshTask;
+
+    public ApiDocsAggregator(ApiDocsProperties properties, RouteLocator routeLocator, JsonMapper jsonMapper,
+                             WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.routeLocator = routeLocator;
+        this.jsonMapper = jsonMapper;
+        this.webClient = webClientBuilder
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .build();
+    }
+
+    public ApiDocsSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!properties.isEnabled() || properties.getRoutes().isEmpty()) {
+            return;
+        }
+        // 이전 갱신이 끝나지 않았으면 이번 주기는 건너뜀
+        refreshTask = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe();
+    }
+
+    @EventListener(RefreshRoutesResultEvent.class)
+    void onRoutesRefreshed(RefreshRoutesResultEvent event) {
+        if (refreshTask != null && event.isSuccess()) {
+            refresh().subscribe();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * 전체 서비스 문서를 동시에 가져와 통합 문서를 다시 만듦
+     */
+    Mono<Void> refresh() {
+        return routeLocator.getRoutes()
+                .filter(route -> properties.getRoutes().contains(route.getId()))
+                .flatMap(this::fetch)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(this::update)
+                .onErrorResume(error -> {
+                    log.warn("API docs refresh failed: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Map.Entry<String, JsonNode>> fetch(Route route) {
+        URI uri = route.getUri().resolve(properties.getPath());
+        return webClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(properties.getTimeout())
+                .map(body -> Map.entry(route.getId(), jsonMapper.readTree(body)))
+                .onErrorResume(error -> {
+                    log.warn("API docs fetch failed for {}: {} - keeping previous document", route.getId(),
+                            error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private synchronized void update(Map<String, JsonNode> fetched) {
+        documents.putAll(fetched);
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        Map<String, byte[]> serialized = new HashMap<>();
+        documents.forEach((routeId, document) -> serialized.put(routeId, jsonMapper.writeValueAsBytes(document)));
+        serialized.put(MERGED, jsonMapper.writeValueAsBytes(merge()));
+        snapshot = ApiDocsSnapshot.of(serialized);
+        log.info("API docs refreshed ({} services)", documents.size());
+    }
+
+    private ObjectNode merge() {
+        ObjectNode merged = jsonMapper.createObjectNode();
+        merged.put("openapi", documents.values().iterator().next().path("openapi").asString("3.0.1"));
+        merged.putObject("info")
+                .put("title", properties.getTitle())
+                .put("version", properties.getVersion());
+        merged.putArray("servers").addObject().put("url", "/");
+        ObjectNode paths = merged.putObject("paths");
+        ObjectNode schemas = merged.putObject("components").putObject("schemas");
+        Map<String, JsonNode> tags = new LinkedHashMap<>();
+
+        documents.forEach((routeId, original) -> {
+            JsonNode document = original.deepCopy();
+            Map<String, String> renamed = new HashMap<>();
+            document.path("components").path("schemas").properties().forEach(entry -> {
+                JsonNode existing = schemas.get(entry.getKey());
+                if (existing != null && !existing.equals(entry.getValue())) {
+                    renamed.put(entry.getKey(), routeId + "." + entry.getKey());
+                }
+            });
+            if (!renamed.isEmpty()) {
+                rewriteRefs(document, renamed);
+            }
+
+            document.path("components").path("schemas").properties().forEach(entry ->
+                    schemas.set(renamed.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue()));
+            document.path("paths").properties().forEach(entry -> paths.set(entry.getKey(), entry.getValue()));
+            for (JsonNode tag : document.path("tags")) {
+                tags.putIfAbsent(tag.path("name").asString(), tag);
+            }
+        });
+
+        if (!tags.isEmpty()) {
+            merged.putArray("tags").addAll(tags.values());
+        }
+        return merged;
+    }
+
+    /**
+     * 문서 전체의 "$ref": "#/components/schemas/{이름}" 중 이름이 바뀐 스키마를 새 이름으로 변경
+     */
+    private static void rewriteRefs(JsonNode node, Map<String, String> renamed) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            JsonNode ref = object.get("$ref");
+            if (ref != null && ref.isString() && ref.stringValue().startsWith(SCHEMA_REF_PREFIX)) {
+                String target = renamed.get(ref.stringValue().substring(SCHEMA_REF_PREFIX.length()));
+                if (target != null) {
+                    object.put("$ref", SCHEMA_REF_PREFIX + target);
+                }
+            }
+            List<JsonNode> children = new ArrayList<>();
+            for (Map.Entry<String, JsonNode> entry : object.properties()) {
+                children.add(entry.getValue());
+            }
+            children.forEach(child -> rewriteRefs(child, renamed));
+        } else if (node.isArray()) {
+            for (JsonNode child : node) {
+                rewriteRefs(child, renamed);
+            }
+        }
+    }
+
+    /**
+     * 응답에 사용할 직렬화된 문서 (교체 단위)
+     */
+    public record ApiDocsSnapshot(Map<String, Document> documents) {
+
+        static final ApiDocsSnapshot EMPTY = new ApiDocsSnapshot(Map.of());
+
+        static ApiDocsSnapshot of(Map<String, byte[]> serialized) {
+            Map<String, Document> documents = new HashMap<>();
+            serialized.forEach((name, body) -> documents.put(name, Document.of(body)));
+            return new ApiDocsSnapshot(Map.copyOf(documents));
+        }
+
+        public Set<String> names() {
+            return documents.keySet();
+        }
+    }
+
+    /**
+     * @param etag 바디 SHA-256 기반 strong ETag (압축 여부에 따른 weak 변환은 핸들러에서)
+     */
+    public record Document(byte[] body, String etag) {
+
+        static Document of(byte[] body) {
+            return new Document(body, ETags.of(body));
+        }
+    }
+}
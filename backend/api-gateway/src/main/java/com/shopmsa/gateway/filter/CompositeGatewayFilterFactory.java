@@ -0,0 +1,312 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import com.shopmsa.gateway.handler.FallbackHandler;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API Composition 필터 (업스트림 병렬 호출 후 JSON 병합)
+ *
+ * 화면 하나를 그리기 위해 클라이언트가 순서대로 호출하던 여러 API 를 Gateway 가 동시에 호출하고
+ * 각 응답 바디를 파싱 없이 그대로 이어 붙여 하나의 JSON 으로 응답. 클라이언트 왕복 N 회 → 1 회,
+ * 응답 시간은 가장 느린 호출 하나로 줄어듦.
+ *
+ * 각 항목은 "Route ID:경로 템플릿" 형식이며 경로 변수는 Path Predicate 의 변수로 채움.
+ * 업스트림 주소는 해당 Route 의 URI 를 사용 (Route 설정 변경 시 다시 조회).
+ *
+ * 항목별로 circuit-breakers 에 해당 Route 의 CircuitBreaker 이름을 지정하면 같은 인스턴스를 공유
+ * → Route 로 들어온 요청의 장애로 열린 상태면 호출하지 않고 바로 실패 처리 (타임아웃까지 기다리지 않음).
+ *
+ * 부분 실패 처리
+ * - 필수 항목(required) 4xx: 업스트림 응답을 그대로 반환 (예: 사용자 없음 → 404)
+ * - 필수 항목 5xx / 타임아웃 / 연결 오류 / Circuit Open: 해당 서비스의 Fallback 응답 (503)
+ * - 그 외 항목 실패: 항목 값은 null, errors 에 업스트림 오류 응답 또는 Fallback 응답을 담아 200
+ *
+ * <pre>
+ * - id: user-overview
+ *   uri: no://op
+ *   predicates:
+ *     - Path=/api/composite/user-overview/{id}
+ *   filters:
+ *     - name: Composite
+ *       args:
+ *         required: user
+ *         parts:
+ *           user: user-service:/api/users/{id}
+ *           payments: payment-service:/api/payments/user/{id}
+ *         circuit-breakers:
+ *           user: userServiceCircuitBreaker
+ *           payments: paymentServiceCircuitBreaker
+ * </pre>
+ *
+ * 응답 예: {"user":{...},"payments":null,"errors":{"payments":{"status":503,...}}}
+ */
+@Slf4j
+@Component
+public class CompositeGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<CompositeGatewayFilterFactory.Config>
+        implements ApplicationListener<RefreshRoutesResultEvent> {
+
+    // 업스트림에 그대로 전달할 요청 헤더 (인증 / 추적)
+    private static final List<String> FORWARDED_HEADERS = List.of(
+            HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT_LANGUAGE,
+            GatewayRequestAttributes.REQUEST_ID_HEADER, GatewayRequestAttributes.CORRELATION_ID_HEADER);
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OBJECT_START = "{".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OBJECT_END = "}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERRORS_FIELD = ",\"errors\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final HttpClient httpClient;
+    private final ObjectProvider<RouteLocator> routeLocatorProvider;
+    private final FallbackHandler fallbackHandler;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+    // Route ID -> URI (Route 갱신 시 비우고 다음 요청에서 다시 조회)
+    private volatile Mono<Map<String, URI>> routeUris;
+
+    /**
+     * RouteLocator 는 필터 팩토리에 의존하므로 ObjectProvider 로 지연 조회 (순환 참조 방지)
+     */
+    public CompositeGatewayFilterFactory(HttpClient httpClient,
+                                         ObjectProvider<RouteLocator> routeLocatorProvider,
+                                         FallbackHandler fallbackHandler,
+                                         ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory) {
+        super(Config.class);
+        this.httpClient = httpClient;
+        this.routeLocatorProvider = routeLocatorProvider;
+        this.fallbackHandler = fallbackHandler;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshRoutesResultEvent event) {
+        routeUris = null;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getParts().isEmpty()) {
+            throw new IllegalArgumentException("Composite filter requires at least one part");
+        }
+        // Gateway 의 HttpClient 를 공유 (업스트림 커넥션 풀 공용)
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) config.getMaxPartSize().toBytes()))
+                .build();
+        List<Part> parts = new ArrayList<>(config.getParts().size());
+        config.getParts().forEach((name, target) -> {
+            String circuitBreakerId = config.getCircuitBreakers().get(name);
+            parts.add(Part.parse(name, target, config.getRequired().contains(name),
+                    circuitBreakerId != null ? circuitBreakerFactory.create(circuitBreakerId) : null));
+        });
+
+        return (exchange, chain) -> {
+            Map<String, String> variables = ServerWebExchangeUtils.getUriTemplateVariables(exchange);
+            return routeUris().flatMap(uris -> {
+                List<Mono<PartResult>> calls = new ArrayList<>(parts.size());
+                for (Part part : parts) {
+                    calls.add(call(webClient, exchange, part, uris.get(part.routeId()), variables, config.getTimeout()));
+                }
+                return Mono.zip(calls, results -> {
+                    PartResult[] partResults = new PartResult[results.length];
+                    for (int i = 0; i < results.length; i++) {
+                        partResults[i] = (PartResult) results[i];
+                    }
+                    return partResults;
+                });
+            }).flatMap(results -> write(exchange, parts, results));
+        };
+    }
+
+    private Mono<Map<String, URI>> routeUris() {
+        Mono<Map<String, URI>> current = routeUris;
+        if (current == null) {
+            current = routeLocatorProvider.getObject().getRoutes()
+                    .collectMap(Route::getId, Route::getUri)
+                    .cache();
+            routeUris = current;
+        }
+        return current;
+    }
+
+    /**
+     * 항목 하나 호출 - 오류는 실패 결과로 바꿔 다른 항목 호출에 영향을 주지 않음
+     */
+    private Mono<PartResult> call(WebClient webClient, ServerWebExchange exchange, Part part, URI routeUri,
+                                  Map<String, String> variables, Duration timeout) {
+        if (routeUri == null || !routeUri.getScheme().startsWith("http")) {
+            log.warn("Composite part {} has no http route: {}", part.name(), part.routeId());
+            return Mono.just(PartResult.FAILED);
+        }
+        URI uri = routeUri.resolve(part.path().expand(variables));
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+
+        Mono<PartResult> result = webClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    for (String name : FORWARDED_HEADERS) {
+                        List<String> values = requestHeaders.get(name);
+                        if (values != null) {
+                            headers.put(name, values);
+                        }
+                    }
+                })
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(EMPTY_BODY)
+                        .map(body -> new PartResult(response.statusCode(), body)))
+                .timeout(timeout);
+        if (part.circuitBreaker() != null) {
+            // Route 의 CircuitBreaker 와 상태 공유 (열려 있으면 CallNotPermittedException 으로 바로 실패)
+            result = part.circuitBreaker().run(result);
+        }
+        return result
+                .onErrorResume(error -> {
+                    log.warn("Composite part {} failed: {} ({})", part.name(), uri, error.toString());
+                    return Mono.just(PartResult.FAILED);
+                });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, List<Part> parts, PartResult[] results) {
+        ServerHttpResponse response = exchange.getResponse();
+        String path = exchange.getRequest().getPath().value();
+
+        // 필수 항목이 실패하면 병합하지 않고 해당 항목의 응답 / Fallback 으로 응답
+        for (int i = 0; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            PartResult result = results[i];
+            if (part.required() && !result.isSuccessful()) {
+                boolean clientError = result.status() != null && result.status().is4xxClientError();
+                response.setStatusCode(clientError ? result.status() : HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                byte[] body = clientError ? result.body() : fallbackHandler.fallbackBody(part.routeId(), path);
+                return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+            }
+        }
+
+        // 바디 byte[] 를 감싸서 이어 붙이기만 함 (파싱 / 재직렬화 없음)
+        DataBufferFactory bufferFactory = response.bufferFactory();
+        List<DataBuffer> buffers = new ArrayList<>(parts.size() * 2 + 2);
+        List<DataBuffer> errors = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            PartResult result = results[i];
+            buffers.add(bufferFactory.wrap(i == 0 ? OBJECT_START : COMMA));
+            buffers.add(bufferFactory.wrap(part.field()));
+            if (result.isSuccessful()) {
+                buffers.add(bufferFactory.wrap(result.body().length > 0 ? result.body() : NULL));
+                continue;
+            }
+            buffers.add(bufferFactory.wrap(NULL));
+            byte[] error = result.status() != null && result.status().is4xxClientError() && result.body().length > 0
+                    ? result.body()
+                    : fallbackHandler.fallbackBody(part.routeId(), path);
+            errors.add(bufferFactory.wrap(errors.isEmpty() ? OBJECT_START : COMMA));
+            errors.add(bufferFactory.wrap(part.field()));
+            errors.add(bufferFactory.wrap(error));
+        }
+        if (!errors.isEmpty()) {
+            buffers.add(bufferFactory.wrap(ERRORS_FIELD));
+            buffers.addAll(errors);
+            buffers.add(bufferFactory.wrap(OBJECT_END));
+        }
+        buffers.add(bufferFactory.wrap(OBJECT_END));
+
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Flux.fromIterable(buffers));
+    }
+
+    /**
+     * @param routeId        업스트림 주소를 가져올 Route
+     * @param path           경로 템플릿 (Path Predicate 변수 사용)
+     * @param required       실패 시 전체 응답을 실패로 처리할 항목
+     * @param field          미리 인코딩한 JSON 필드 이름 ("name":)
+     * @param circuitBreaker 공유할 Route 의 CircuitBreaker (지정하지 않았으면 null)
+     */
+    private record Part(String name, String routeId, UriTemplate path, boolean required, byte[] field,
+                        ReactiveCircuitBreaker circuitBreaker) {
+
+        static Part parse(String name, String target, boolean required, ReactiveCircuitBreaker circuitBreaker) {
+            int separator = target.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Composite part must be 'routeId:/path': " + name + "=" + target);
+            }
+            return new Part(name, target.substring(0, separator).trim(),
+                    new UriTemplate(target.substring(separator + 1).trim()), required,
+                    ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8), circuitBreaker);
+        }
+    }
+
+    /**
+     * @param status 업스트림 상태 코드 (응답을 받지 못했으면 null)
+     */
+    private record PartResult(HttpStatusCode status, byte[] body) {
+
+        static final PartResult FAILED = new PartResult(null, EMPTY_BODY);
+
+        boolean isSuccessful() {
+            return status != null && status.is2xxSuccessful();
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 응답 필드 이름 -> "Route ID:경로 템플릿" (응답 필드 순서 유지)
+        private Map<String, String> parts = new LinkedHashMap<>();
+
+        // 실패 시 전체 응답을 실패로 처리할 항목
+        private List<String> required = new ArrayList<>();
+
+        // 응답 필드 이름 -> 공유할 CircuitBreaker 이름 (대상 Route 의 CircuitBreaker 필터 name)
+        private Map<String, String> circuitBreakers = new LinkedHashMap<>();
+
+        // 항목별 호출 타임아웃 (초과 시 해당 항목만 실패)
+        private Duration timeout = Duration.ofSeconds(3);
+
+        // 항목별 최대 응답 크기
+        private DataSize maxPartSize = DataSize.ofMegabytes(1);
+    }
+}
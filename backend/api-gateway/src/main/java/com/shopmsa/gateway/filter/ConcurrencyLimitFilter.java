@@ -0,0 +1,133 @@
+package com.shopmsa.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import com.shopmsa.gateway.concurrency.AdaptiveConcurrencyLimiter;
+import com.shopmsa.gateway.concurrency.PriorityClassifier;
+import com.shopmsa.gateway.concurrency.RequestPriority;
+import com.shopmsa.gateway.config.ConcurrencyLimitProperties;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 적응형 동시 처리 한도 필터 (Load Shedding)
+ * Route 별로 측정한 업스트림 RTT 에 따라 동시 처리 한도를 조절하고,
+ * 한도를 넘는 요청은 업스트림에 보내지 않고 바로 503 + Retry-After 로 거절
+ * (느려진 서비스에 요청이 계속 쌓여 DB 커넥션 풀 대기열이 늘어나는 것을 막음)
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    // 과부하 신호로 보는 업스트림 응답 코드
+    private static final Set<Integer> OVERLOAD_STATUSES = Set.of(502, 503, 504);
+
+    private final ConcurrencyLimitProperties properties;
+    private final PriorityClassifier priorityClassifier;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> routes;
+    private final String retryAfter;
+
+    private final ConcurrentHashMap<String, RouteLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, PriorityClassifier priorityClassifier,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.priorityClassifier = priorityClassifier;
+        this.meterRegistry = meterRegistry;
+        this.routes = Set.copyOf(properties.getRoutes());
+        this.retryAfter = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null || (!routes.isEmpty() && !routes.contains(route.getId()))) {
+            return chain.filter(exchange);
+        }
+
+        RouteLimiter routeLimiter = limiter(route.getId());
+        AdaptiveConcurrencyLimiter limiter = routeLimiter.limiter();
+        RequestPriority priority = priorityClassifier.classify(exchange.getRequest());
+        if (!limiter.tryAcquire(priority)) {
+            routeLimiter.rejected().get(priority).increment();
+            // 과부하 중에는 거절이 대량으로 발생하므로 DEBUG (건수는 gateway.concurrency.rejected 메트릭)
+            log.debug("Concurrency limit exceeded: {} {} (limit: {}, priority: {})",
+                    route.getId(), exchange.getRequest().getPath(), limiter.limit(), priority);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().add(HttpHeaders.RETRY_AFTER, retryAfter);
+            return response.setComplete();
+        }
+
+        int inFlightAtStart = limiter.inFlight();
+        return chain.filter(exchange)
+                .doFinally(signalType -> release(exchange, limiter, signalType, inFlightAtStart));
+    }
+
+    private static void release(ServerWebExchange exchange, AdaptiveConcurrencyLimiter limiter,
+                                SignalType signalType, int inFlightAtStart) {
+        // 업스트림을 호출하지 않은 요청(캐시 적중, SingleFlight 재생, Fallback, Composite 등)은
+        // RTT 표본으로 쓰지 않음 - 수 µs 짜리 시간이 기준 RTT 가 되면 실제 업스트림 응답이 모두 혼잡으로 판정됨
+        long upstreamNanos = GatewayRequestAttributes.upstreamNanos(exchange);
+        if (signalType == SignalType.CANCEL || upstreamNanos < 0) {
+            limiter.release();
+            return;
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        boolean dropped = signalType == SignalType.ON_ERROR
+                || (statusCode != null && OVERLOAD_STATUSES.contains(statusCode.value()));
+        limiter.release(upstreamNanos, inFlightAtStart, dropped);
+    }
+
+    private RouteLimiter limiter(String routeId) {
+        RouteLimiter limiter = limiters.get(routeId);
+        return limiter != null ? limiter : limiters.computeIfAbsent(routeId, this::createLimiter);
+    }
+
+    private RouteLimiter createLimiter(String routeId) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder("gateway.concurrency.rejected")
+                    .tag("route", routeId)
+                    .tag("priority", priority.name())
+                    .register(meterRegistry));
+        }
+        return new RouteLimiter(limiter, rejected);
+    }
+
+    private record RouteLimiter(AdaptiveConcurrencyLimiter limiter, Map<RequestPriority, Counter> rejected) {
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 4;  // Rate Limiting 다음에 실행
+    }
+}
@@ -0,0 +1,193 @@
+package com.shopmsa.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.config.ConditionalGetProperties;
+import com.shopmsa.gateway.support.ETags;
+
+import java.util.List;
+
+/**
+ * 조건부 GET 필터 (ETag / If-None-Match → 304)
+ *
+ * GET 200 응답 바디의 해시로 ETag 를 붙이고, 클라이언트가 보낸 If-None-Match 와 같으면
+ * 바디 없이 304 로 응답 (변경되지 않은 목록 조회는 헤더 교환만 발생).
+ * 업스트림이 ETag 를 직접 내려주면 바디를 모으지 않고 그 값으로 비교.
+ *
+ * ETag 계산에는 바디 전체가 필요하므로 maxBodySize 까지만 모으고, 넘으면 모은 부분부터 그대로 스트리밍.
+ * 압축(server.compression)은 이 필터 이후 Netty 에서 적용되므로 ETag 는 압축 전 바디 기준.
+ * strong ETag 는 content-coding 별로 달라야 하므로(RFC 9110 8.8.3) 압축이 켜져 있으면 weak ETag (W/"...") 사용.
+ * 응답 캐시 적중 응답도 이 필터를 거치므로 캐시 + 304 가 함께 동작.
+ */
+@Component
+public class ConditionalGetFilter implements GlobalFilter, Ordered {
+
+    private static final String METRIC = "gateway.conditional.responses";
+
+    private final ConditionalGetProperties properties;
+    private final int maxBodyBytes;
+    // 압축 전 바디 기준 ETag 는 압축된 응답과 바이트가 달라지므로 weak 로 표시
+    private final boolean weakETags;
+    private final Counter notModified;
+    private final Counter tagged;
+    private final Counter tooLarge;
+
+    public ConditionalGetFilter(ConditionalGetProperties properties, MeterRegistry meterRegistry,
+                                @Value("${server.compression.enabled:false}") boolean compressionEnabled) {
+        this.properties = properties;
+        this.maxBodyBytes = (int) properties.getMaxBodySize().toBytes();
+        this.weakETags = compressionEnabled;
+        this.notModified = Counter.builder(METRIC).tag("result", "not_modified").register(meterRegistry);
+        this.tagged = Counter.builder(METRIC).tag("result", "tagged").register(meterRegistry);
+        this.tooLarge = Counter.builder(METRIC).tag("result", "too_large").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        return chain.filter(exchange.mutate()
+                .response(new ETagResponse(exchange.getResponse(), ifNoneMatch))
+                .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 5;  // 동시 처리 한도 다음 (Route 필터 / 캐시 적중 응답까지 감쌈)
+    }
+
+    /**
+     * 압축이 켜져 있으면 weak ETag 로 변환
+     */
+    private String forCoding(String etag) {
+        return weakETags ? ETags.weak(etag) : etag;
+    }
+
+    private final class ETagResponse extends ServerHttpResponseDecorator {
+
+        private final String ifNoneMatch;
+
+        private ETagResponse(ServerHttpResponse delegate, String ifNoneMatch) {
+            super(delegate);
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode statusCode = getStatusCode();
+            HttpHeaders headers = getHeaders();
+            if (statusCode == null || statusCode.value() != HttpStatus.OK.value()
+                    || headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                    || isNoStore(headers.getCacheControl())) {
+                return super.writeWith(body);
+            }
+
+            // 업스트림이 내려준 ETag 는 그대로 사용 (바디를 모으지 않음)
+            String upstreamETag = headers.getETag();
+            if (upstreamETag != null) {
+                headers.setETag(forCoding(upstreamETag));
+                return ETags.matches(ifNoneMatch, upstreamETag)
+                        ? notModified(Flux.from(body).doOnNext(DataBufferUtils::release).then())
+                        : super.writeWith(body);
+            }
+
+            long contentLength = headers.getContentLength();
+            if (contentLength > maxBodyBytes) {
+                tooLarge.increment();
+                return super.writeWith(body);
+            }
+
+            BodyLimit limit = new BodyLimit(maxBodyBytes);
+            return Flux.from(body)
+                    .bufferUntil(limit::exceededBy)
+                    .switchOnFirst((first, chunks) -> {
+                        if (first.isOnError()) {
+                            return chunks.then();
+                        }
+                        if (limit.exceeded) {
+                            // 한도 초과 - 모은 부분부터 그대로 전달
+                            tooLarge.increment();
+                            return getDelegate().writeWith(chunks.concatMapIterable(buffers -> buffers));
+                        }
+                        List<DataBuffer> buffers = first.hasValue() ? first.get() : List.of();
+                        return writeTagged(buffers);
+                    })
+                    .then();
+        }
+
+        /**
+         * 바디 전체가 모인 경우 - ETag 계산 후 304 또는 ETag 를 붙여 전달
+         */
+        private Mono<Void> writeTagged(List<DataBuffer> buffers) {
+            String etag = forCoding(ETags.of(buffers));
+            if (ETags.matches(ifNoneMatch, etag)) {
+                buffers.forEach(DataBufferUtils::release);
+                getHeaders().setETag(etag);
+                return notModified(Mono.empty());
+            }
+            tagged.increment();
+            getHeaders().setETag(etag);
+            if (buffers.isEmpty()) {
+                return getDelegate().setComplete();
+            }
+            DataBuffer joined = bufferFactory().join(buffers);
+            getHeaders().setContentLength(joined.readableByteCount());
+            return getDelegate().writeWith(Mono.just(joined));
+        }
+
+        private Mono<Void> notModified(Mono<Void> drainBody) {
+            notModified.increment();
+            setStatusCode(HttpStatus.NOT_MODIFIED);
+            HttpHeaders headers = getHeaders();
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return drainBody.then(getDelegate().setComplete());
+        }
+    }
+
+    private static boolean isNoStore(String cacheControl) {
+        return cacheControl != null && cacheControl.contains("no-store");
+    }
+
+    /**
+     * 누적 바디 크기 (한도를 넘는 순간부터 bufferUntil 이 버퍼를 하나씩 내보냄)
+     */
+    private static final class BodyLimit {
+
+        private final int maxBytes;
+        private long size;
+        private boolean exceeded;
+
+        private BodyLimit(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean exceededBy(DataBuffer buffer) {
+            size += buffer.readableByteCount();
+            if (size > maxBytes) {
+                exceeded = true;
+            }
+            return exceeded;
+        }
+    }
+}
@@ -1,132 +1,99 @@
 package com.shopmsa.gateway.filter;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.util.Optional;
-import java.util.UUID;
+import com.shopmsa.gateway.accesslog.AccessLogRecord;
+import com.shopmsa.gateway.accesslog.AccessLogWriter;
+import com.shopmsa.gateway.config.AccessLogProperties;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 글로벌 로깅 필터
- * 모든 요청/응답을 로깅하고 Request ID 추가
+ * 요청 단위 Access Log 레코드를 만들어 비동기 기록기(AccessLogWriter)에 전달
+ * - 오류(4xx/5xx, onError, cancel) 와 느린 요청은 항상 기록
+ * - 정상 응답(2xx/3xx)은 successSampleRate 비율로 샘플링
+ * (Request ID / Correlation ID / Client IP 는 RequestAttributesFilter 에서 계산한 값을 사용)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GlobalLoggingFilter implements GlobalFilter, Ordered {
 
-    private static final String REQUEST_ID_HEADER = "X-Request-ID";
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogProperties properties;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        
-        // Request ID 생성 또는 기존 ID 사용
-        final String requestId = Optional.ofNullable(request.getHeaders().getFirst(REQUEST_ID_HEADER))
-                .filter(id -> !id.isEmpty())
-                .orElse(UUID.randomUUID().toString());
-        request.getHeaders().getFirst(REQUEST_ID_HEADER);
-        // if (requestId == null || requestId.isEmpty()) {
-        //     // effectively final 위반 함
-        //     // 재할당이 불가능함.
-        //     requestId = UUID.randomUUID().toString();
-        // }
-        // Correlation ID 생성 또는 기존 ID 사용
-        final String correlationId = Optional.ofNullable(request.getHeaders().getFirst(CORRELATION_ID_HEADER))
-                .filter(id -> !id.isEmpty())
-                .orElse(UUID.randomUUID().toString());
-        // String correlationId = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
-        // if (correlationId == null || correlationId.isEmpty()) {
-        //     correlationId = UUID.randomUUID().toString();
-        // }
-        
-        // Request에 ID 추가
-        ServerHttpRequest mutatedRequest = request.mutate()
-                .header(REQUEST_ID_HEADER, requestId)
-                .header(CORRELATION_ID_HEADER, correlationId)
-                .build();
-        
-        ServerWebExchange mutatedExchange = exchange.mutate()
-                .request(mutatedRequest)
-                .build();
-        
-        // 요청 로깅
-        long startTime = System.currentTimeMillis();
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         // beforeCommit에서 Response Header 추가 (committed 되기 전)
-        mutatedExchange.getResponse().beforeCommit(() -> {
-            ServerHttpResponse response = mutatedExchange.getResponse();
-            response.getHeaders().add(REQUEST_ID_HEADER, requestId);
-            response.getHeaders().add(CORRELATION_ID_HEADER, correlationId);
-            response.getHeaders().add("X-Response-Time", (System.currentTimeMillis() - startTime) + "ms");
+        exchange.getResponse().beforeCommit(() -> {
+            exchange.getResponse().getHeaders()
+                    .add("X-Response-Time", ((System.nanoTime() - startNanos) / 1_000_000) + "ms");
             return Mono.empty();
         });
 
-        log.info(">>> Incoming Request: {} {} | Request-ID: {} | Correlation-ID: {} | Client-IP: {}",
-                request.getMethod(),
-                request.getURI(),
-                requestId,
-                correlationId,
-                getClientIp(request));
-        
-        // Response에도 ID 추가 및 응답 로깅
-        // return chain.filter(mutatedExchange).then(Mono.fromRunnable(() -> {
-        //     long endTime = System.currentTimeMillis();
-        //     long duration = endTime - startTime;
-            
-        //     mutatedExchange.getResponse().getHeaders().add(REQUEST_ID_HEADER, requestId);
-        //     mutatedExchange.getResponse().getHeaders().add(CORRELATION_ID_HEADER, correlationId);
-            
-        //     log.info("<<< Outgoing Response: {} {} | Status: {} | Duration: {}ms | Request-ID: {}",
-        //             request.getMethod(),
-        //             request.getURI(),
-        //             mutatedExchange.getResponse().getStatusCode(),
-        //             duration,
-        //             requestId);
-        // }));
+        if (log.isDebugEnabled()) {
+            ServerHttpRequest request = exchange.getRequest();
+            log.debug(">>> Incoming Request: {} {} | Request-ID: {} | Client-IP: {}",
+                    request.getMethod(),
+                    request.getPath(),
+                    GatewayRequestAttributes.requestId(exchange),
+                    GatewayRequestAttributes.clientIp(exchange));
+        }
+
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
         // ✅ doFinally는 로깅만 수행 (Header 추가 안함)
-        return chain.filter(mutatedExchange)
-            .doFinally(signalType -> {
-                long duration = System.currentTimeMillis() - startTime;
-                log.info("<<< Outgoing Response: {} {} | Status: {} | Duration: {}ms | Request-ID: {} | Signal: {}",
-                        request.getMethod(),
-                        request.getURI(),
-                        mutatedExchange.getResponse().getStatusCode(),
-                        duration,
-                        requestId,
-                        signalType);
-        });
+        return chain.filter(exchange)
+                .doFinally(signalType -> record(exchange, signalType, startMillis, startNanos));
     }
 
-    /**
-     * 클라이언트 IP 추출
-     * X-Forwarded-For, X-Real-IP 헤더 확인 후 Remote Address 사용
-     */
-    private String getClientIp(ServerHttpRequest request) {
-        String xForwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeaders().getFirst("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+    private void record(ServerWebExchange exchange, SignalType signalType, long startMillis, long startNanos) {
+        long durationMicros = (System.nanoTime() - startNanos) / 1_000;
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : 0;
+
+        boolean failed = status >= 400 || signalType != SignalType.ON_COMPLETE;
+        boolean slow = durationMicros >= properties.getSlowThreshold().toNanos() / 1_000;
+        if (!failed && !slow
+                && ThreadLocalRandom.current().nextDouble() >= properties.getSuccessSampleRate()) {
+            return;
         }
-        
-        return request.getRemoteAddress() != null 
-                ? request.getRemoteAddress().getAddress().getHostAddress() 
-                : "unknown";
+
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        accessLogWriter.append(new AccessLogRecord(
+                startMillis,
+                request.getMethod().name(),
+                request.getPath().value(),
+                status,
+                durationMicros,
+                route != null ? route.getId() : null,
+                GatewayRequestAttributes.clientIp(exchange),
+                GatewayRequestAttributes.requestId(exchange),
+                signalType.toString()));
     }
 
     @Override
     public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE;  // 가장 먼저 실행
+        return Ordered.HIGHEST_PRECEDENCE + 2;  // 지연 시간 필터 다음에 실행
     }
 }
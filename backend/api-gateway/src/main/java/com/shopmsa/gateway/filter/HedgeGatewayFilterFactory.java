@@ -0,0 +1,336 @@
+package com.shopmsa.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.ConnectionProvider;
+
+import com.shopmsa.gateway.config.HedgingProperties;
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+import com.shopmsa.gateway.support.GetRequestMatcher;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedged Request 필터 (멱등 GET Route 전용, opt-in)
+ *
+ * 첫 요청이 지연 기준(해당 Route 업스트림 2xx 응답 시간의 실시간 p95 등) 안에 응답 헤더를 받지 못하면
+ * 보조 요청을 하나 더 보내고 먼저 응답 헤더가 도착한 쪽을 사용 (나머지는 취소).
+ * 보조 요청은 Gateway 기본 풀과 분리된 커넥션 풀의 커넥션을 사용함
+ * (느린 업스트림에 묶인 기본 풀 커넥션을 다시 쓰지 않을 뿐, 다른 인스턴스로 연결된다는 보장은 없음).
+ *
+ * 추가 부하는 Hedge Budget 으로 제한 (요청마다 budget-ratio 만큼 토큰 적립, 보조 요청마다 1개 소비).
+ * 응답 바디는 모으지 않고 선택된 커넥션에서 바로 스트리밍 (NettyWriteResponseFilter).
+ * 보조 요청이 중복 실행되어도 안전한 GET 조회 경로만 paths 로 지정해야 하며, paths 가 비어 있으면 적용하지 않음.
+ *
+ * <pre>
+ * filters:
+ *   - name: Hedge
+ *     args:
+ *       paths: /api/users/{id:\d+}
+ *       percentile: 0.95
+ *       budget-ratio: 0.1
+ * </pre>
+ */
+@Slf4j
+@Component
+public class HedgeGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<HedgeGatewayFilterFactory.Config> implements DisposableBean {
+
+    // ReactiveLoadBalancerClientFilter(10150) 다음 = 최종 업스트림 URL 이 정해진 뒤, Routing Filter 전
+    private static final int HEDGE_FILTER_ORDER = 10151;
+
+    private static final String METRIC = "gateway.hedge.requests";
+
+    private final HttpClient primaryClient;
+    private final HttpClient hedgeClient;
+    private final ConnectionProvider hedgeConnectionProvider;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider;
+    private final RouteLatencyMetrics routeLatencyMetrics;
+    private final MeterRegistry meterRegistry;
+
+    public HedgeGatewayFilterFactory(HttpClient httpClient,
+                                     ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                     RouteLatencyMetrics routeLatencyMetrics,
+                                     HedgingProperties properties,
+                                     MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.primaryClient = httpClient;
+        this.headersFiltersProvider = headersFiltersProvider;
+        this.routeLatencyMetrics = routeLatencyMetrics;
+        this.meterRegistry = meterRegistry;
+
+        // Gateway 기본 HttpClient 와 풀을 나눠 느린 Pod 에 묶인 커넥션을 다시 쓰지 않도록 함
+        // (HttpClient 빈으로 등록하면 Gateway 기본 HttpClient 자동 설정이 빠지므로 여기서 직접 생성)
+        this.hedgeConnectionProvider = ConnectionProvider.builder("gateway-hedge")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+        this.hedgeClient = HttpClient.create(hedgeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 대상 경로를 명시한 경우만 적용 (Route 의 모든 GET 에 보조 요청이 나가지 않도록)
+        GetRequestMatcher matcher = config.getPaths().isEmpty()
+                ? null
+                : new GetRequestMatcher(config.getPaths(), List.of());
+        if (matcher == null) {
+            log.warn("Hedge filter has no paths configured - hedging disabled for this route");
+        }
+        HedgeDelay hedgeDelay = new HedgeDelay(config);
+        HedgeBudget budget = new HedgeBudget(config.getBudgetRatio(), config.getBudgetMaxTokens());
+        OutcomeCounters counters = new OutcomeCounters();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            if (matcher == null
+                    || !matcher.matches(exchange.getRequest())
+                    || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                    || requestUrl == null
+                    || !("http".equals(requestUrl.getScheme()) || "https".equals(requestUrl.getScheme()))) {
+                return chain.filter(exchange);
+            }
+            ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : RouteLatencyMetrics.UNKNOWN_ROUTE;
+            budget.deposit();
+
+            HttpHeaders requestHeaders = requestHeaders(exchange);
+            AtomicBoolean claimed = new AtomicBoolean();
+            long startNanos = System.nanoTime();
+
+            Mono<UpstreamResponse> primary = call(primaryClient, requestUrl, requestHeaders, claimed, false);
+            Mono<UpstreamResponse> hedge = Mono.delay(hedgeDelay.get(routeId))
+                    .flatMap(tick -> {
+                        if (!budget.tryAcquire()) {
+                            counters.get(routeId, "budget_exhausted").increment();
+                            return Mono.<UpstreamResponse>never();
+                        }
+                        counters.get(routeId, "sent").increment();
+                        return call(hedgeClient, requestUrl, requestHeaders, claimed, true);
+                    })
+                    // 보조 요청 실패는 무시하고 첫 요청 결과를 기다림
+                    .onErrorResume(error -> Mono.never());
+
+            // 먼저 도착한 신호 사용 (첫 요청의 오류는 그대로 전달 - Retry / CircuitBreaker 가 처리)
+            return Mono.firstWithSignal(primary, hedge)
+                    .flatMap(response -> {
+                        exchange.getAttributes().put(GatewayRequestAttributes.UPSTREAM_NANOS_ATTR,
+                                System.nanoTime() - startNanos);
+                        if (response.hedged()) {
+                            counters.get(routeId, "won").increment();
+                            log.debug("Hedged request won: {} | Request-ID: {}",
+                                    routeId, GatewayRequestAttributes.requestId(exchange));
+                        }
+                        writeHeaders(exchange, response);
+                        return chain.filter(exchange);
+                    });
+        }, HEDGE_FILTER_ORDER);
+    }
+
+    /**
+     * 응답 헤더까지만 받고 커넥션을 넘김 (바디는 NettyWriteResponseFilter 가 커넥션에서 바로 스트리밍)
+     * single() 은 완료 신호까지 기다리므로 응답 헤더를 받은 뒤 커넥션을 취소하지 않음
+     */
+    private Mono<UpstreamResponse> call(HttpClient client, URI url, HttpHeaders headers,
+                                        AtomicBoolean claimed, boolean hedged) {
+        return client
+                .headers(nettyHeaders -> headers.forEach((name, values) -> nettyHeaders.add(name, values)))
+                .get()
+                .uri(url)
+                .responseConnection((response, connection) -> {
+                    // 두 응답이 거의 동시에 도착하면 늦은 쪽은 사용하지 않으므로 바로 커넥션을 닫음
+                    if (!claimed.compareAndSet(false, true)) {
+                        connection.dispose();
+                        return Mono.<UpstreamResponse>never();
+                    }
+                    return Mono.just(new UpstreamResponse(response, connection, hedged));
+                })
+                .single();
+    }
+
+    private HttpHeaders requestHeaders(ServerWebExchange exchange) {
+        HttpHeaders filtered = HttpHeadersFilter.filterRequest(headersFiltersProvider.getIfAvailable(), exchange);
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(filtered);
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            headers.remove(HttpHeaders.HOST);
+        }
+        return headers;
+    }
+
+    /**
+     * 상태 / 헤더를 응답에 반영하고 커넥션을 Exchange 에 등록 (NettyRoutingFilter 와 같은 방식)
+     */
+    private void writeHeaders(ServerWebExchange exchange, UpstreamResponse upstream) {
+        HttpClientResponse clientResponse = upstream.response();
+        HttpHeaders upstreamHeaders = new HttpHeaders();
+        for (Map.Entry<String, String> header : clientResponse.responseHeaders()) {
+            upstreamHeaders.add(header.getKey(), header.getValue());
+        }
+        String contentType = upstreamHeaders.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            exchange.getAttributes().put(ServerWebExchangeUtils.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentType);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(clientResponse.status().code()));
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFiltersProvider.getIfAvailable(),
+                upstreamHeaders, exchange, HttpHeadersFilter.Type.RESPONSE);
+        response.getHeaders().putAll(filtered);
+        if (filtered.containsHeader(HttpHeaders.CONTENT_LENGTH)) {
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+
+        exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR, clientResponse);
+        exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR, upstream.connection());
+    }
+
+    @Override
+    public void destroy() {
+        hedgeConnectionProvider.dispose();
+    }
+
+    private record UpstreamResponse(HttpClientResponse response, Connection connection, boolean hedged) {
+    }
+
+    /**
+     * Route 별 결과 카운터 (필터 인스턴스 = Route 이므로 처음 한 번만 등록)
+     */
+    private final class OutcomeCounters {
+
+        private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+        Counter get(String routeId, String outcome) {
+            Counter counter = counters.get(outcome);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(outcome, key -> Counter.builder(METRIC)
+                        .tag("route", routeId)
+                        .tag("outcome", key)
+                        .register(meterRegistry));
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * 보조 요청 지연 기준 (Route 업스트림 백분위, 최대 1초에 한 번만 다시 계산)
+     */
+    private final class HedgeDelay {
+
+        private static final long REFRESH_NANOS = Duration.ofSeconds(1).toNanos();
+
+        private final Config config;
+        private volatile long delayNanos;
+        private volatile long refreshedAt = System.nanoTime() - REFRESH_NANOS;
+
+        private HedgeDelay(Config config) {
+            this.config = config;
+            this.delayNanos = config.getInitialDelay().toNanos();
+        }
+
+        Duration get(String routeId) {
+            long now = System.nanoTime();
+            if (now - refreshedAt >= REFRESH_NANOS) {
+                refreshedAt = now;
+                long percentileNanos = routeLatencyMetrics.upstreamPercentileNanos(
+                        routeId, config.getPercentile(), config.getMinSamples());
+                delayNanos = percentileNanos < 0
+                        ? config.getInitialDelay().toNanos()
+                        : Math.clamp(percentileNanos, config.getMinDelay().toNanos(), config.getMaxDelay().toNanos());
+            }
+            return Duration.ofNanos(delayNanos);
+        }
+    }
+
+    /**
+     * 보조 요청 예산 (1/1000 토큰 단위 고정 소수점)
+     */
+    private static final class HedgeBudget {
+
+        private static final long TOKEN = 1000;
+
+        private final long depositPerRequest;
+        private final long maxTokens;
+        private final AtomicLong tokens;
+
+        private HedgeBudget(double ratio, int maxTokens) {
+            this.depositPerRequest = Math.round(ratio * TOKEN);
+            this.maxTokens = maxTokens * TOKEN;
+            this.tokens = new AtomicLong(this.maxTokens);
+        }
+
+        void deposit() {
+            tokens.accumulateAndGet(depositPerRequest, (current, delta) -> Math.min(maxTokens, current + delta));
+        }
+
+        boolean tryAcquire() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < TOKEN) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - TOKEN));
+            return true;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 보조 요청을 보낼 GET 경로 패턴 (필수 - 비어 있으면 필터가 동작하지 않음)
+        private List<String> paths = new ArrayList<>();
+
+        // 지연 기준 백분위 (gateway.route-latency.percentiles 에 포함된 값)
+        private double percentile = 0.95;
+
+        // 백분위 계산에 필요한 최소 표본 수 (부족하면 initial-delay 사용)
+        private long minSamples = 100;
+
+        private Duration initialDelay = Duration.ofMillis(200);
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        // 요청 대비 보조 요청 비율 상한 (0.1 = 최대 10% 추가 부하)
+        private double budgetRatio = 0.1;
+
+        // 순간적으로 몰릴 수 있는 보조 요청 수
+        private int budgetMaxTokens = 10;
+    }
+}
@@ -0,0 +1,328 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.idempotency.IdempotencyRecord;
+import com.shopmsa.gateway.idempotency.IdempotencyStore;
+import com.shopmsa.gateway.support.BodyCapturingResponse;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Idempotency-Key 필터 (opt-in)
+ *
+ * 클라이언트가 보낸 Idempotency-Key 별로 첫 요청의 응답(상태 코드 / Content-Type / 바디)을 Redis 에 저장하고,
+ * 같은 키로 다시 들어온 요청은 업스트림 호출 없이 저장된 응답을 그대로 돌려줌 (Idempotency-Replayed: true).
+ * 타임아웃 후 재전송으로 인한 중복 결제를 막음.
+ *
+ * - 첫 요청이 처리 중이면 중복 요청은 업스트림으로 보내지 않고 결과를 기다림 (waitTimeout 초과 시 409)
+ * - 5xx / 오류 응답은 저장하지 않고 키를 해제 (같은 키로 다시 시도 가능)
+ * - 클라이언트가 끊어도 업스트림은 처리했을 수 있으므로 키는 lockTtl 까지 유지
+ * - Redis 장애 시 키 선점 단계에서는 멱등 처리 없이 그대로 전달 (fail-open)
+ * - 키는 Route + Method + Path + 클라이언트 범위 (다른 API / 다른 클라이언트가 같은 키를 써도 충돌하지 않음)
+ *   클라이언트는 clientHeaders 값(인증 정보)의 해시, 없으면 클라이언트 IP
+ * - 요청 바디의 SHA-256 을 함께 저장하고, 같은 키로 다른 바디를 보내면 422 (다른 요청의 응답을 재생하지 않음)
+ *   (지문 계산을 위해 요청 바디를 메모리에 모음 - 결제 등 작은 JSON 요청 Route 에만 사용)
+ *
+ * <pre>
+ * filters:
+ *   - name: IdempotencyKey     # CircuitBreaker / Retry 보다 앞 (재시도 결과까지 포함한 최종 응답을 저장)
+ *     args:
+ *       ttl: 24h
+ * </pre>
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<IdempotencyKeyGatewayFilterFactory.Config> {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotency-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    // RFC 9110 422 Unprocessable Content (같은 키, 다른 바디)
+    private static final HttpStatusCode KEY_REUSED = HttpStatusCode.valueOf(422);
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final IdempotencyStore store;
+
+    public IdempotencyKeyGatewayFilterFactory(IdempotencyStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        int maxBytes = (int) config.getMaxResponseSize().toBytes();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!config.getMethods().contains(request.getMethod().name())) {
+                return chain.filter(exchange);
+            }
+            String idempotencyKey = request.getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+            if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                return chain.filter(exchange);
+            }
+            if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+                exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+                return exchange.getResponse().setComplete();
+            }
+
+            String key = routeId(exchange) + ':' + request.getMethod().name() + ':'
+                    + request.getPath().value() + ':' + clientScope(exchange, config) + ':' + idempotencyKey;
+            // 바디를 모아 지문을 계산하고, 업스트림에는 모아 둔 바디를 다시 전달
+            return ServerWebExchangeUtils.cacheRequestBodyAndRequest(exchange, cachedRequest -> {
+                DataBuffer body = exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+                return acquire(exchange.mutate().request(cachedRequest).build(), chain, key,
+                        fingerprint(body), config, maxBytes, false);
+            });
+        };
+    }
+
+    /**
+     * 클라이언트 식별 값 (인증 헤더 해시 - Redis 키에 인증 정보가 그대로 남지 않도록)
+     */
+    private static String clientScope(ServerWebExchange exchange, Config config) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        MessageDigest digest = sha256();
+        boolean identified = false;
+        for (String name : config.getClientHeaders()) {
+            String value = headers.getFirst(name);
+            if (value != null && !value.isEmpty()) {
+                digest.update((name + '=' + value + '\n').getBytes(StandardCharsets.UTF_8));
+                identified = true;
+            }
+        }
+        if (!identified) {
+            return "ip=" + GatewayRequestAttributes.clientIp(exchange);
+        }
+        return BASE64.encodeToString(digest.digest());
+    }
+
+    /**
+     * 요청 바디의 SHA-256 (바디가 없으면 빈 바디의 해시)
+     */
+    private static String fingerprint(DataBuffer body) {
+        MessageDigest digest = sha256();
+        if (body != null) {
+            try (DataBuffer.ByteBufferIterator buffers = body.readableByteBuffers()) {
+                while (buffers.hasNext()) {
+                    digest.update(buffers.next());
+                }
+            }
+        }
+        return BASE64.encodeToString(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 키 선점 - 성공하면 업스트림 호출(leader), 이미 있으면 저장된 응답 / 처리 결과를 기다림
+     *
+     * @param retried 처리 중이던 요청이 키를 해제해 한 번 더 선점을 시도하는 경우
+     */
+    private Mono<Void> acquire(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                               String fingerprint, Config config, int maxBytes, boolean retried) {
+        return store.tryAcquire(key, fingerprint, config.getLockTtl())
+                .onErrorResume(error -> {
+                    log.warn("Idempotency key acquire failed - forwarding without idempotency: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(acquired -> {
+                    if (acquired.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    return acquired.get()
+                            ? lead(exchange, chain, key, fingerprint, config, maxBytes)
+                            : awaitCompletion(exchange, chain, key, fingerprint, config, maxBytes, retried);
+                });
+    }
+
+    /**
+     * 업스트림을 호출하고 최종 응답을 저장 (5xx / 오류면 키 해제)
+     */
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                            String fingerprint, Config config, int maxBytes) {
+        AtomicReference<IdempotencyRecord> captured = new AtomicReference<>();
+        BodyCapturingResponse capturingResponse = new BodyCapturingResponse(exchange.getResponse(), maxBytes,
+                response -> {
+                    HttpStatusCode statusCode = response.getStatusCode();
+                    if (statusCode == null || statusCode.is5xxServerError()) {
+                        return null;
+                    }
+                    String contentType = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+                    return body -> captured.set(
+                            IdempotencyRecord.completed(fingerprint, statusCode.value(), contentType, body));
+                });
+
+        return chain.filter(exchange.mutate().response(capturingResponse).build())
+                .onErrorResume(error -> store.release(key)
+                        .onErrorResume(releaseError -> Mono.empty())
+                        .then(Mono.error(error)))
+                .then(Mono.defer(() -> finish(exchange, key, captured.get(), config)));
+    }
+
+    /**
+     * 응답 저장 / 키 해제
+     * 응답이 이미 나갔으므로 Redis 오류는 로그만 남김 (처리 중 표시는 lockTtl 후 만료)
+     */
+    private Mono<Void> finish(ServerWebExchange exchange, String key, IdempotencyRecord record, Config config) {
+        Mono<Boolean> result;
+        if (record != null) {
+            result = store.complete(key, record, config.getTtl());
+        } else {
+            HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+            if (statusCode != null && !statusCode.is5xxServerError()) {
+                // 성공했지만 저장하지 못한 응답(크기 초과) - 재실행되지 않도록 lockTtl 까지 키 유지
+                log.warn("Idempotent response too large to store: {} (status: {})", key, statusCode.value());
+                return Mono.empty();
+            }
+            result = store.release(key);
+        }
+        return result
+                .onErrorResume(error -> {
+                    log.warn("Idempotency record update failed for {}: {}", key, error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 저장된 응답이 생길 때까지 pollInterval 간격으로 조회
+     * - 완료: 저장된 응답 재생
+     * - 바디 지문이 다름 (같은 키를 다른 요청에 재사용): 422
+     * - 키 없음 (처리 중이던 요청이 실패해 해제): 한 번 더 선점 시도
+     * - waitTimeout 초과 / Redis 오류 / 손상된 저장 값: 409 (처리 중인 요청이 있으므로 업스트림으로 보내지 않음)
+     */
+    private Mono<Void> awaitCompletion(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                                       String fingerprint, Config config, int maxBytes, boolean retried) {
+        long maxPolls = Math.max(1, config.getWaitTimeout().toMillis() / config.getPollInterval().toMillis());
+        return Flux.interval(Duration.ZERO, config.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> store.find(key)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()), 1)
+                .takeUntil(state -> state.map(record -> record.completed() || !record.matches(fingerprint))
+                        .orElse(true))
+                .take(maxPolls + 1)
+                .last()
+                .onErrorResume(error -> {
+                    // 상태를 알 수 없으므로 같은 요청이 처리 중인 것으로 간주 (409)
+                    log.warn("Idempotency key lookup failed: {}", error.getMessage());
+                    return Mono.just(Optional.of(IdempotencyRecord.inFlight(fingerprint)));
+                })
+                .flatMap(state -> {
+                    if (state.isEmpty()) {
+                        return retried
+                                ? conflict(exchange)
+                                : acquire(exchange, chain, key, fingerprint, config, maxBytes, true);
+                    }
+                    IdempotencyRecord record = state.get();
+                    if (!record.matches(fingerprint)) {
+                        return keyReused(exchange);
+                    }
+                    return record.completed() ? replay(exchange, record) : conflict(exchange);
+                });
+    }
+
+    private static Mono<Void> replay(ServerWebExchange exchange, IdempotencyRecord record) {
+        log.debug("Idempotent response replayed: {} | Request-ID: {}",
+                exchange.getRequest().getPath(), GatewayRequestAttributes.requestId(exchange));
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(record.status()));
+        if (record.contentType() != null) {
+            response.getHeaders().set(HttpHeaders.CONTENT_TYPE, record.contentType());
+        }
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(record.body())));
+    }
+
+    private static Mono<Void> conflict(ServerWebExchange exchange) {
+        log.warn("Idempotency key still in flight: {} | Request-ID: {}",
+                exchange.getRequest().getPath(), GatewayRequestAttributes.requestId(exchange));
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.CONFLICT);
+        response.getHeaders().add(HttpHeaders.RETRY_AFTER, "1");
+        return response.setComplete();
+    }
+
+    private static Mono<Void> keyReused(ServerWebExchange exchange) {
+        log.warn("Idempotency key reused with a different request body: {} | Request-ID: {}",
+                exchange.getRequest().getPath(), GatewayRequestAttributes.requestId(exchange));
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(KEY_REUSED);
+        return response.setComplete();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 완료된 응답 보관 기간 (클라이언트 재전송 허용 기간)
+        private Duration ttl = Duration.ofHours(24);
+
+        // 처리 중 표시 유지 시간 (업스트림 최대 응답 시간보다 길게)
+        private Duration lockTtl = Duration.ofSeconds(30);
+
+        // 중복 요청이 처리 중인 결과를 기다리는 최대 시간 (초과 시 409)
+        private Duration waitTimeout = Duration.ofSeconds(10);
+
+        private Duration pollInterval = Duration.ofMillis(100);
+
+        // 이보다 큰 응답은 저장하지 않음 (재실행되지 않도록 키는 lockTtl 까지 처리 중으로 유지)
+        private DataSize maxResponseSize = DataSize.ofKilobytes(64);
+
+        private List<String> methods = new ArrayList<>(List.of("POST"));
+
+        // 키 범위를 나눌 클라이언트 식별 헤더 (모두 없으면 클라이언트 IP)
+        private List<String> clientHeaders = new ArrayList<>(List.of(HttpHeaders.AUTHORIZATION, "X-API-Key"));
+    }
+}
@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -13,105 +15,103 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import com.shopmsa.gateway.config.RateLimitProperties;
+import com.shopmsa.gateway.ratelimit.BucketSpec;
+import com.shopmsa.gateway.ratelimit.ClientRateLimiter;
+import com.shopmsa.gateway.ratelimit.QuotaPolicy;
+import com.shopmsa.gateway.ratelimit.QuotaPolicyTable;
+import com.shopmsa.gateway.ratelimit.RateLimitResult;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Redis 기반 Rate Limiting 필터
- * IP 기반으로 분당 요청 수 제한
+ * Route / HTTP Method / API Key 별 정책에 따라 Token Bucket 으로 요청 수 제한
+ * (리필 / 소비 / TTL 설정을 Lua 스크립트 한 번으로 처리,
+ *  LOCAL 모드에서는 Pod 로컬에서 판정 후 주기적으로 Redis 와 동기화)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RateLimitingFilter implements GlobalFilter, Ordered {
 
-    private final ReactiveRedisTemplate<String, String> redisTemplate;
-    
-    // 분당 최대 요청 수
-    private static final long MAX_REQUESTS_PER_MINUTE = 100;
-    
-    // Rate Limit 윈도우 (1분)
-    private static final Duration RATE_LIMIT_WINDOW = Duration.ofMinutes(1);
-
-    // Redis 연결 타임아웃 (2초)
-    private static final Duration REDIS_TIMEOUT = Duration.ofSeconds(2);
+    // EXACT(Redis) 또는 LOCAL(Pod 로컬 집계) 구현 - gateway.rate-limit.mode 로 선택
+    private final ClientRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final QuotaPolicyTable policyTable;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String clientIp = getClientIp(request);
-        String rateLimitKey = "rate_limit:" + clientIp;
-        
-        return redisTemplate.opsForValue()
-                .increment(rateLimitKey)
-                .timeout(REDIS_TIMEOUT)  // ✅ 타임아웃 2초 설정
-                .flatMap(count -> {
-                    // 첫 요청인 경우 TTL 설정
-                    if (count == 1) {
-                        return redisTemplate.expire(rateLimitKey, RATE_LIMIT_WINDOW)
-                                .then(processRequest(exchange, chain, count));
-                    }
-                    
-                    return processRequest(exchange, chain, count);
-                })
+        String clientIp = GatewayRequestAttributes.clientIp(exchange);
+
+        // Route / Method / Principal 별 정책 조회 (시작 시 컴파일된 테이블)
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String principal = request.getHeaders().getFirst(properties.getPrincipalHeader());
+        QuotaPolicy policy = policyTable.resolve(
+                route != null ? route.getId() : null, request.getMethod(), principal);
+        String bucketId = policy.bucketId(clientIp, principal);
+        BucketSpec bucket = policy.bucket();
+
+        Mono<RateLimitResult> decision = rateLimiter.tryConsume(bucketId, bucket);
+        if (policy.keyedByPrincipal(principal)) {
+            // 식별 헤더는 검증 전의 클라이언트 입력이라 값을 바꿔 가며 새 버킷을 얻을 수 있으므로
+            // IP 단위 기본 버킷도 함께 소비하고 더 엄격한 판정을 따름
+            QuotaPolicy ipPolicy = policyTable.defaultPolicy();
+            decision = Mono.zip(decision,
+                    rateLimiter.tryConsume(ipPolicy.bucketId(clientIp, null), ipPolicy.bucket()),
+                    RateLimitResult::stricter);
+        }
+
+        // Redis 오류/타임아웃은 판정 결과 없음(empty)으로 바꾸고 요청 허용 (Fail-Open)
+        // - 다운스트림(chain) 에서 발생한 오류까지 삼켜서 체인을 두 번 실행하지 않도록 판정 단계에만 적용
+        return decision
+                .timeout(properties.getRedisTimeout())  // ✅ 타임아웃 설정 (기본 2초)
                 .onErrorResume(TimeoutException.class, error -> {
                     // ✅ 타임아웃 발생 시
                     log.warn("Rate limiting timeout for IP: {} - allowing request", clientIp);
-                    return chain.filter(exchange);
+                    return Mono.empty();
                 })
                 .onErrorResume(error -> {
-                    // Redis 오류 시 요청 허용 (Fail-Open)
                     log.error("Rate limiting error: {}", error.getMessage());
-                    return chain.filter(exchange);
-                });
+                    return Mono.empty();
+                })
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(result -> result.isPresent()
+                        ? processRequest(exchange, chain, bucketId, result.get())
+                        : chain.filter(exchange));
     }
 
-    private Mono<Void> processRequest(ServerWebExchange exchange, GatewayFilterChain chain, Long count) {
+    private Mono<Void> processRequest(ServerWebExchange exchange, GatewayFilterChain chain,
+                                      String bucketId, RateLimitResult result) {
         ServerHttpResponse response = exchange.getResponse();
         // ✅ beforeCommit에서 Response Header 추가
         response.beforeCommit(() -> {
-            response.getHeaders().add("X-Rate-Limit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-            response.getHeaders().add("X-Rate-Limit-Remaining", 
-                    String.valueOf(Math.max(0, MAX_REQUESTS_PER_MINUTE - count)));
+            response.getHeaders().add("X-Rate-Limit-Limit", String.valueOf(result.limit()));
+            response.getHeaders().add("X-Rate-Limit-Remaining", String.valueOf(result.remaining()));
             return Mono.empty();
         });
 
-        // Response 헤더에 Rate Limit 정보 추가
-        // response.getHeaders().add("X-Rate-Limit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-        // response.getHeaders().add("X-Rate-Limit-Remaining", 
-        //         String.valueOf(Math.max(0, MAX_REQUESTS_PER_MINUTE - count)));
-        
-        // Rate Limit 초과 시 429 응답
-        if (count > MAX_REQUESTS_PER_MINUTE) {
-            log.warn("Rate limit exceeded for IP: {} (count: {})", 
-                    getClientIp(exchange.getRequest()), count);
-            
+        // 버킷에 토큰이 없으면 429 응답
+        if (!result.allowed()) {
+            log.warn("Rate limit exceeded for bucket: {} (retry after: {}ms)",
+                    bucketId, result.retryAfterMillis());
+
+            String retryAfter = String.valueOf(result.retryAfterSeconds());
             response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
-            response.getHeaders().add("X-Rate-Limit-Retry-After", "60");
+            response.getHeaders().add("X-Rate-Limit-Retry-After", retryAfter);
+            response.getHeaders().add(HttpHeaders.RETRY_AFTER, retryAfter);
             return response.setComplete();
         }
-        
-        return chain.filter(exchange);
-    }
 
-    private String getClientIp(ServerHttpRequest request) {
-        String xForwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeaders().getFirst("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        
-        return request.getRemoteAddress() != null 
-                ? request.getRemoteAddress().getAddress().getHostAddress() 
-                : "unknown";
+        return chain.filter(exchange);
     }
 
     @Override
     public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE + 1;  // 로깅 다음에 실행
+        return Ordered.HIGHEST_PRECEDENCE + 3;  // 로깅 다음에 실행
     }
 }
@@ -0,0 +1,81 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.support.ClientIpResolver;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+import com.shopmsa.gateway.support.RequestIdGenerator;
+import com.shopmsa.gateway.support.TrustedProxies;
+
+import java.util.Map;
+
+import static com.shopmsa.gateway.support.GatewayRequestAttributes.CORRELATION_ID_HEADER;
+import static com.shopmsa.gateway.support.GatewayRequestAttributes.REQUEST_ID_HEADER;
+
+/**
+ * 요청 속성 필터
+ * Client IP / Request ID / Correlation ID 를 요청당 한 번만 계산해 Exchange Attribute 로 저장하고
+ * 다운스트림 요청과 응답에 ID 헤더를 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestAttributesFilter implements GlobalFilter, Ordered {
+
+    private final TrustedProxies trustedProxies;
+    private final RequestIdGenerator requestIdGenerator;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+
+        String incomingRequestId = headers.getFirst(REQUEST_ID_HEADER);
+        String incomingCorrelationId = headers.getFirst(CORRELATION_ID_HEADER);
+        boolean hasRequestId = hasText(incomingRequestId);
+        boolean hasCorrelationId = hasText(incomingCorrelationId);
+        String requestId = hasRequestId ? incomingRequestId : requestIdGenerator.nextId();
+        String correlationId = hasCorrelationId ? incomingCorrelationId : requestIdGenerator.nextId();
+
+        Map<String, Object> attributes = exchange.getAttributes();
+        attributes.put(GatewayRequestAttributes.CLIENT_IP_ATTR, ClientIpResolver.resolve(request, trustedProxies));
+        attributes.put(GatewayRequestAttributes.REQUEST_ID_ATTR, requestId);
+        attributes.put(GatewayRequestAttributes.CORRELATION_ID_ATTR, correlationId);
+
+        // 클라이언트가 두 ID 를 모두 보낸 경우 요청 객체를 다시 만들지 않음
+        ServerWebExchange target = exchange;
+        if (!hasRequestId || !hasCorrelationId) {
+            ServerHttpRequest mutatedRequest = request.mutate()
+                    .header(REQUEST_ID_HEADER, requestId)
+                    .header(CORRELATION_ID_HEADER, correlationId)
+                    .build();
+            target = exchange.mutate().request(mutatedRequest).build();
+        }
+
+        // beforeCommit에서 Response Header 추가 (committed 되기 전)
+        target.getResponse().beforeCommit(() -> {
+            HttpHeaders responseHeaders = exchange.getResponse().getHeaders();
+            responseHeaders.add(REQUEST_ID_HEADER, requestId);
+            responseHeaders.add(CORRELATION_ID_HEADER, correlationId);
+            return Mono.empty();
+        });
+
+        return chain.filter(target);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;  // 가장 먼저 실행
+    }
+}
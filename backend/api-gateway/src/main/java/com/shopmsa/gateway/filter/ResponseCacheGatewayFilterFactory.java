@@ -0,0 +1,134 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.cache.CachedResponse;
+import com.shopmsa.gateway.cache.ResponseCacheStore;
+import com.shopmsa.gateway.config.ResponseCacheProperties;
+import com.shopmsa.gateway.support.BodyCapturingResponse;
+import com.shopmsa.gateway.support.CapturedResponse;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+import com.shopmsa.gateway.support.GetRequestMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Route 단위 응답 캐시 필터 (opt-in)
+ *
+ * GET 200 응답의 바디 바이트를 Gateway 메모리에 보관하고, 같은 요청(Method + Path + Query + 지정 헤더)은
+ * 업스트림 호출 없이 저장된 바이트를 그대로 감싸서(wrap, 복사 없음) 응답.
+ * 서비스는 쓰기 작업 후 Redis Pub/Sub 으로 경로를 발행해 캐시를 무효화.
+ *
+ * <pre>
+ * filters:
+ *   - name: ResponseCache      # CircuitBreaker 보다 앞에 두어야 캐시 적중 시 업스트림 필터를 건너뜀
+ *     args:
+ *       ttl: 30s
+ *       paths: /api/users/{id:\d+}
+ *       key-headers: Accept, Accept-Encoding
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCacheStore cacheStore;
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore cacheStore, ResponseCacheProperties properties) {
+        super(Config.class);
+        this.cacheStore = cacheStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Duration ttl = config.getTtl() != null ? config.getTtl() : properties.getDefaultTtl();
+        GetRequestMatcher matcher = new GetRequestMatcher(config.getPaths(), config.getKeyHeaders());
+        int maxEntryBytes = (int) properties.getMaxEntrySize().toBytes();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!matcher.matches(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = matcher.key(request);
+            if (!isNoCache(request.getHeaders())) {
+                CachedResponse cached = cacheStore.get(key);
+                if (cached != null) {
+                    return writeCached(exchange, cached);
+                }
+            }
+
+            String path = request.getPath().value();
+            BodyCapturingResponse capturingResponse = new BodyCapturingResponse(exchange.getResponse(), maxEntryBytes,
+                    response -> store(response, key, path, ttl));
+            return chain.filter(exchange.mutate().response(capturingResponse).build());
+        };
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        log.debug("Response cache hit: {} | Request-ID: {}",
+                cached.path(), GatewayRequestAttributes.requestId(exchange));
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+        return cached.response().writeTo(response);
+    }
+
+    /**
+     * 업스트림 응답이 캐시 가능하면 바디 완료 시 저장할 Consumer 반환
+     */
+    private Consumer<byte[]> store(ServerHttpResponse response, String key, String path, Duration ttl) {
+        HttpStatusCode statusCode = response.getStatusCode();
+        if (statusCode == null || statusCode.value() != HttpStatus.OK.value()
+                || !CapturedResponse.isShareable(response.getHeaders())) {
+            return null;
+        }
+        CapturedResponse snapshot = CapturedResponse.snapshot(response, null);
+        response.getHeaders().set(CACHE_HEADER, "MISS");
+        return body -> cacheStore.put(key, new CachedResponse(path, snapshot.withBody(body), ttl));
+    }
+
+    private static boolean isNoCache(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && cacheControl.contains("no-cache");
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 비우면 gateway.response-cache.default-ttl 사용
+        private Duration ttl;
+
+        // 캐시할 경로 패턴 (비우면 Route 의 모든 GET 요청)
+        private List<String> paths = new ArrayList<>();
+
+        // 캐시 키에 포함할 요청 헤더 (응답이 헤더에 따라 달라지는 경우)
+        private List<String> keyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+    }
+}
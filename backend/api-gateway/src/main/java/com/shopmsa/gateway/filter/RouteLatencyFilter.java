@@ -0,0 +1,66 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import com.shopmsa.gateway.config.RouteLatencyProperties;
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics;
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics.Outcome;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+/**
+ * Route 지연 시간 필터
+ * 필터 체인 전체 시간을 nanoTime 으로 측정하고, UpstreamLatencyFilter 가 남긴 업스트림 시간과 함께
+ * Route / 상태 코드 클래스별 히스토그램에 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteLatencyFilter implements GlobalFilter, Ordered {
+
+    private final RouteLatencyMetrics metrics;
+    private final RouteLatencyProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signalType -> record(exchange, signalType, System.nanoTime() - startNanos));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signalType, long totalNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        metrics.record(route != null ? route.getId() : null,
+                outcome(exchange, signalType),
+                totalNanos,
+                GatewayRequestAttributes.upstreamNanos(exchange));
+    }
+
+    private static Outcome outcome(ServerWebExchange exchange, SignalType signalType) {
+        if (signalType == SignalType.CANCEL) {
+            return Outcome.CANCELLED;
+        }
+        if (signalType == SignalType.ON_ERROR) {
+            // 오류 응답 코드는 이 필터 바깥의 WebExceptionHandler 가 정함
+            return Outcome.ERROR;
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        return statusCode != null ? Outcome.of(statusCode.value()) : Outcome.SUCCESS;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;  // 요청 속성 필터 다음, 나머지 Gateway 필터 전체를 감싸도록 실행
+    }
+}
@@ -0,0 +1,168 @@
+package com.shopmsa.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import com.shopmsa.gateway.support.BodyCapturingResponse;
+import com.shopmsa.gateway.support.CapturedResponse;
+import com.shopmsa.gateway.support.GetRequestMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일 요청 병합 필터 (single-flight, opt-in)
+ *
+ * 같은 GET 요청(Method + Path + Query + 지정 헤더)이 동시에 여러 건 들어오면 첫 요청(leader)만 업스트림을 호출하고,
+ * 응답을 기다리던 나머지 요청(follower)은 leader 의 응답 바이트를 그대로 받아 응답.
+ * 캐시 만료 / @CacheEvict 직후 몰리는 요청이 DB 까지 그대로 가는 것을 막음.
+ *
+ * leader 응답을 공유할 수 없는 경우(쿠키 / private 응답, 크기 초과, 오류, 취소) follower 는 각자 업스트림을 호출.
+ *
+ * <pre>
+ * filters:
+ *   - name: SingleFlight       # ResponseCache 다음, CircuitBreaker 보다 앞
+ *     args:
+ *       paths: /api/partners/{id:\d+}
+ * </pre>
+ *
+ * 메트릭: gateway.singleflight.requests{route, role=leader|follower|fallback}
+ * (병합 비율 = follower / 전체)
+ */
+@Component
+public class SingleFlightGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    private static final String METRIC = "gateway.singleflight.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    // 진행 중인 leader 요청 (키 -> leader 응답)
+    private final ConcurrentHashMap<String, Sinks.One<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.singleflight.inflight", inFlight, ConcurrentHashMap::size)
+                .description("In-flight single-flight leader requests")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GetRequestMatcher matcher = new GetRequestMatcher(config.getPaths(), config.getKeyHeaders());
+        int maxBytes = (int) config.getMaxResponseSize().toBytes();
+        Duration maxWait = config.getMaxWait();
+        RoleCounters counters = new RoleCounters();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!matcher.matches(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = matcher.key(request);
+            Sinks.One<CapturedResponse> leaderSink = Sinks.one();
+            Sinks.One<CapturedResponse> existing = inFlight.putIfAbsent(key, leaderSink);
+            if (existing == null) {
+                counters.get(exchange, "leader").increment();
+                return lead(exchange, chain, key, leaderSink, maxBytes);
+            }
+            return follow(exchange, chain, existing, maxWait, counters);
+        };
+    }
+
+    /**
+     * 업스트림을 호출하고 응답 바디를 복사해 follower 에게 전달
+     */
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                            Sinks.One<CapturedResponse> sink, int maxBytes) {
+        BodyCapturingResponse capturingResponse = new BodyCapturingResponse(exchange.getResponse(), maxBytes,
+                response -> {
+                    if (!CapturedResponse.isShareable(response.getHeaders())) {
+                        return null;
+                    }
+                    CapturedResponse snapshot = CapturedResponse.snapshot(response, null);
+                    return body -> sink.tryEmitValue(snapshot.withBody(body));
+                });
+        return chain.filter(exchange.mutate().response(capturingResponse).build())
+                .doFinally(signalType -> {
+                    inFlight.remove(key, sink);
+                    // 공유할 응답 없이 끝났으면 follower 는 각자 업스트림 호출
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                              Sinks.One<CapturedResponse> leader, Duration maxWait, RoleCounters counters) {
+        return leader.asMono()
+                .timeout(maxWait, Mono.empty())
+                .map(response -> {
+                    counters.get(exchange, "follower").increment();
+                    return response;
+                })
+                .flatMap(response -> response.writeTo(exchange.getResponse()))
+                .switchIfEmpty(Mono.defer(() -> {
+                    counters.get(exchange, "fallback").increment();
+                    return chain.filter(exchange);
+                }));
+    }
+
+    /**
+     * Route 별 역할 카운터 (필터 인스턴스 = Route 이므로 첫 요청에서 한 번만 등록)
+     */
+    private final class RoleCounters {
+
+        private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+        Counter get(ServerWebExchange exchange, String role) {
+            Counter counter = counters.get(role);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(role, key -> Counter.builder(METRIC)
+                        .tag("route", routeId(exchange))
+                        .tag("role", key)
+                        .register(meterRegistry));
+            }
+            return counter;
+        }
+
+        private String routeId(ServerWebExchange exchange) {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            return route != null ? route.getId() : "unknown";
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // 병합할 경로 패턴 (비우면 Route 의 모든 GET 요청)
+        private List<String> paths = new ArrayList<>();
+
+        // 키에 포함할 요청 헤더 (응답이 헤더에 따라 달라지는 경우)
+        private List<String> keyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+
+        // 이보다 큰 응답은 공유하지 않음 (follower 는 각자 호출)
+        private DataSize maxResponseSize = DataSize.ofKilobytes(256);
+
+        // follower 최대 대기 시간 (초과 시 각자 호출)
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,57 @@
+package com.shopmsa.gateway.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.config.RouteLatencyProperties;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.net.URI;
+
+/**
+ * 업스트림 지연 시간 필터
+ * Routing Filter(NettyRoutingFilter) 바로 앞에서 실행되어 업스트림 호출부터
+ * 응답 헤더 수신까지 걸린 시간을 Exchange Attribute 로 남김 (응답 바디 전송 시간은 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamLatencyFilter implements GlobalFilter, Ordered {
+
+    private final RouteLatencyProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || !isHttpUpstream(exchange)) {
+            return chain.filter(exchange);
+        }
+        long startNanos = System.nanoTime();
+        // doFinally 는 완료 신호를 바깥으로 전달한 뒤 실행되므로, RouteLatencyFilter 보다 먼저 기록되도록
+        // 완료 / 오류는 doOnTerminate, 취소는 doOnCancel 에서 기록
+        Runnable recordElapsed = () -> exchange.getAttributes()
+                .put(GatewayRequestAttributes.UPSTREAM_NANOS_ATTR, System.nanoTime() - startNanos);
+        return chain.filter(exchange)
+                .doOnTerminate(recordElapsed)
+                .doOnCancel(recordElapsed);
+    }
+
+    // forward:// (Fallback 등 Gateway 내부 처리) 는 업스트림으로 보지 않음
+    private static boolean isHttpUpstream(ServerWebExchange exchange) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (requestUrl == null || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return false;
+        }
+        String scheme = requestUrl.getScheme();
+        return "http".equals(scheme) || "https".equals(scheme);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 2;  // Routing Filter (LOWEST_PRECEDENCE) 직전에 실행
+    }
+}
@@ -0,0 +1,62 @@
+package com.shopmsa.gateway.handler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.docs.ApiDocsAggregator;
+import com.shopmsa.gateway.docs.ApiDocsAggregator.Document;
+import com.shopmsa.gateway.support.ETags;
+
+import java.time.Duration;
+
+/**
+ * 통합 OpenAPI 문서 핸들러
+ * ApiDocsAggregator 가 보관 중인 직렬화된 바이트를 복사 없이 응답 (요청마다 서비스 호출 / 직렬화 없음)
+ * /api-docs/* 도 server.compression 대상이므로 압축이 켜져 있으면 weak ETag 사용 (ConditionalGetFilter 와 동일)
+ */
+@Component
+public class ApiDocsHandler {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1));
+
+    private final ApiDocsAggregator aggregator;
+    private final boolean weakETags;
+
+    public ApiDocsHandler(ApiDocsAggregator aggregator,
+                          @Value("${server.compression.enabled:false}") boolean compressionEnabled) {
+        this.aggregator = aggregator;
+        this.weakETags = compressionEnabled;
+    }
+
+    /**
+     * GET /api-docs/{name} (name: Route ID 또는 merged)
+     */
+    public Mono<ServerResponse> document(ServerRequest request) {
+        Document document = aggregator.snapshot().documents().get(request.pathVariable("name"));
+        if (document == null) {
+            return ServerResponse.notFound().build();
+        }
+        String etag = weakETags ? ETags.weak(document.etag()) : document.etag();
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(document.body().length)
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body((outputMessage, context) -> outputMessage.writeWith(
+                        Mono.fromSupplier(() -> outputMessage.bufferFactory().wrap(document.body()))));
+    }
+}
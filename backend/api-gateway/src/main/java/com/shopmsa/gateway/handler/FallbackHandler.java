@@ -1,144 +1,223 @@
 package com.shopmsa.gateway.handler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import tools.jackson.databind.json.JsonMapper;
 
 import com.shopmsa.gateway.dto.ErrorResponse;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Circuit Breaker Fallback 핸들러
  * 서비스 장애 시 기본 응답 제공
+ *
+ * 서비스별 ErrorResponse JSON 을 시작 시점에 한 번만 직렬화해 byte[] 로 보관하고,
+ * 요청마다 바뀌는 값은 timestamp(초 단위로 한 번만 갱신) 와 path 만 끼워 넣어 응답.
+ * 장애로 Fallback 요청이 몰릴 때 요청당 객체 생성 / JSON 직렬화가 없음.
  */
 @Slf4j
 @Component
 public class FallbackHandler {
 
+    private static final String DEFAULT_SERVICE = "default";
+    private static final String SERVICE_SUFFIX = "-service";
+
+    // 직렬화 결과에서 위치를 찾기 위한 자리 표시 값
+    private static final LocalDateTime TIMESTAMP_PLACEHOLDER = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+    private static final String PATH_PLACEHOLDER = "__FALLBACK_PATH__";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    // 서비스별 안내 메시지 ("/fallback/{service}" 또는 "/fallback/{service}-service")
+    private static final Map<String, String> MESSAGES = Map.of(
+            "payment", "결제 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            "user", "사용자 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            "settlement", "정산 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            "partner", "파트너 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            "accounting", "회계 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            DEFAULT_SERVICE, "요청하신 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private final Map<String, FallbackBody> bodies = new HashMap<>();
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    public FallbackHandler(JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        MESSAGES.forEach((service, message) -> {
+            FallbackBody body = new FallbackBody(service, render(jsonMapper, message),
+                    Counter.builder("gateway.fallback.responses")
+                            .tag("service", service)
+                            .register(meterRegistry));
+            bodies.put(service, body);
+            bodies.put(service + SERVICE_SUFFIX, body);
+        });
+    }
+
     /**
-     * Payment Service Fallback
-     * 결제 서비스 장애 시 응답
+     * 서비스 Fallback (GET /fallback/payment, POST /fallback/payment-service ...)
+     * 등록되지 않은 서비스는 기본 Fallback 응답
      */
-    public Mono<ServerResponse> paymentServiceFallback(ServerRequest request) {
-        log.error("Payment service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("결제 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
-                .build();
-        
+    public Mono<ServerResponse> fallback(ServerRequest request) {
+        FallbackBody body = bodies.getOrDefault(request.pathVariable("service"), bodies.get(DEFAULT_SERVICE));
+        body.counter.increment();
+        String path = originalPath(request);
+        // 장애 중에는 요청마다 발생하므로 DEBUG (건수는 gateway.fallback.responses 메트릭)
+        log.debug("{} service is unavailable. Fallback triggered for request: {}", body.service, path);
+
+        byte[][] parts = body.parts(Instant.now().getEpochSecond(), zoneId);
+        byte[] pathBytes = jsonEscape(path).getBytes(StandardCharsets.UTF_8);
         return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+                .contentLength((long) parts[0].length + pathBytes.length + parts[1].length)
+                .body((outputMessage, context) -> {
+                    DataBufferFactory bufferFactory = outputMessage.bufferFactory();
+                    // 보관 중인 byte[] 를 감싸기만 하고 복사하지 않음
+                    return outputMessage.writeWith(Flux.just(
+                            bufferFactory.wrap(parts[0]),
+                            bufferFactory.wrap(pathBytes),
+                            bufferFactory.wrap(parts[1])));
+                });
     }
 
     /**
-     * User Service Fallback
+     * Fallback 응답 바디 (ErrorResponse JSON) - 요청을 forward 하지 않고 직접 장애 응답을 만드는 곳에서 사용
+     * (Composite 필터의 부분 실패 항목 등)
      */
-    public Mono<ServerResponse> userServiceFallback(ServerRequest request) {
-        log.error("User service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("사용자 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
-                .build();
-        
-        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+    public byte[] fallbackBody(String service, String path) {
+        FallbackBody body = bodies.getOrDefault(service, bodies.get(DEFAULT_SERVICE));
+        body.counter.increment();
+        byte[][] parts = body.parts(Instant.now().getEpochSecond(), zoneId);
+        byte[] pathBytes = jsonEscape(path).getBytes(StandardCharsets.UTF_8);
+        byte[] json = new byte[parts[0].length + pathBytes.length + parts[1].length];
+        System.arraycopy(parts[0], 0, json, 0, parts[0].length);
+        System.arraycopy(pathBytes, 0, json, parts[0].length, pathBytes.length);
+        System.arraycopy(parts[1], 0, json, parts[0].length + pathBytes.length, parts[1].length);
+        return json;
     }
 
     /**
-     * Settlement Service Fallback
+     * forward 되기 전 클라이언트가 요청한 경로 (없으면 Fallback 경로)
      */
-    public Mono<ServerResponse> settlementServiceFallback(ServerRequest request) {
-        log.error("Settlement service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("정산 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
-                .build();
-        
-        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+    private static String originalPath(ServerRequest request) {
+        Set<URI> originalUrls = request.exchange().getAttribute(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+        if (originalUrls != null && !originalUrls.isEmpty()) {
+            return originalUrls.iterator().next().getRawPath();
+        }
+        return request.path();
     }
 
     /**
-     * Partner Service Fallback
+     * ErrorResponse 를 한 번 직렬화해 path 앞 / 뒤 바이트와 timestamp 위치를 찾음
      */
-    public Mono<ServerResponse> partnerServiceFallback(ServerRequest request) {
-        log.error("Partner service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
+    private static Template render(JsonMapper jsonMapper, String message) {
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(TIMESTAMP_PLACEHOLDER)
                 .status(HttpStatus.SERVICE_UNAVAILABLE.value())
                 .error("Service Unavailable")
-                .message("파트너 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
+                .message(message)
+                .path(PATH_PLACEHOLDER)
                 .build();
-        
-        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+        String json = jsonMapper.writeValueAsString(errorResponse);
+
+        int pathIndex = json.indexOf(PATH_PLACEHOLDER);
+        if (pathIndex < 0) {
+            throw new IllegalStateException("Unexpected fallback response format: " + json);
+        }
+        byte[] head = json.substring(0, pathIndex).getBytes(StandardCharsets.UTF_8);
+        byte[] tail = json.substring(pathIndex + PATH_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8);
+
+        byte[] timestamp = TIMESTAMP_FORMAT.format(TIMESTAMP_PLACEHOLDER).getBytes(StandardCharsets.US_ASCII);
+        int headOffset = indexOf(head, timestamp);
+        int tailOffset = headOffset < 0 ? indexOf(tail, timestamp) : -1;
+        if (headOffset < 0 && tailOffset < 0) {
+            throw new IllegalStateException("Unexpected fallback response format: " + json);
+        }
+        return headOffset >= 0
+                ? new Template(head, tail, 0, headOffset)
+                : new Template(head, tail, 1, tailOffset);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String jsonEscape(String value) {
+        if (value.indexOf('"') < 0 && value.indexOf('\\') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
     }
 
     /**
-     * Accounting Service Fallback
+     * @param timestampPart timestamp 가 들어 있는 부분 (0: path 앞, 1: path 뒤)
      */
-    public Mono<ServerResponse> accountingServiceFallback(ServerRequest request) {
-        log.error("Accounting service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("회계 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
-                .build();
-        
-        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+    private record Template(byte[] head, byte[] tail, int timestampPart, int timestampOffset) {
     }
 
     /**
-     * 기본 Fallback (알 수 없는 서비스)
+     * 서비스별 Fallback 바디 (timestamp 를 끼워 넣은 사본을 초 단위로 캐시)
      */
-    public Mono<ServerResponse> defaultFallback(ServerRequest request) {
-        log.error("Unknown service is unavailable. Fallback triggered for request: {}", 
-                request.path());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("요청하신 서비스가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
-                .path(request.path())
-                .build();
-        
-        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(errorResponse);
+    private static final class FallbackBody {
+
+        private final String service;
+        private final Template template;
+        private final Counter counter;
+
+        private volatile Rendered rendered;
+
+        private FallbackBody(String service, Template template, Counter counter) {
+            this.service = service;
+            this.template = template;
+            this.counter = counter;
+        }
+
+        byte[][] parts(long epochSecond, ZoneId zoneId) {
+            Rendered current = rendered;
+            if (current == null || current.epochSecond != epochSecond) {
+                current = new Rendered(epochSecond, patch(epochSecond, zoneId));
+                rendered = current;
+            }
+            return current.parts;
+        }
+
+        private byte[][] patch(long epochSecond, ZoneId zoneId) {
+            byte[][] parts = { template.head(), template.tail() };
+            byte[] target = parts[template.timestampPart()].clone();
+            byte[] timestamp = TIMESTAMP_FORMAT
+                    .format(LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zoneId))
+                    .getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(timestamp, 0, target, template.timestampOffset(), timestamp.length);
+            parts[template.timestampPart()] = target;
+            return parts;
+        }
+
+        private record Rendered(long epochSecond, byte[][] parts) {
+        }
     }
 }
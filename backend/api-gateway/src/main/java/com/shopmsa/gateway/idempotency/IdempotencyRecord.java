@@ -0,0 +1,62 @@
+package com.shopmsa.gateway.idempotency;
+
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Idempotency-Key 별 저장 상태
+ * Redis 에는 한 줄 문자열로 저장
+ * ("P\n{fingerprint}" = 처리 중, "D\n{fingerprint}\n{status}\n{content-type}\n{base64 body}" = 완료)
+ *
+ * @param completed   false 면 처리 중 (status / contentType / body 없음)
+ * @param fingerprint 첫 요청 바디의 SHA-256 (필수)
+ */
+public record IdempotencyRecord(boolean completed, String fingerprint, int status, String contentType, byte[] body) {
+
+    private static final String IN_FLIGHT_PREFIX = "P";
+    private static final String COMPLETED_PREFIX = "D";
+
+    public IdempotencyRecord {
+        Objects.requireNonNull(fingerprint, "fingerprint");
+    }
+
+    public static IdempotencyRecord inFlight(String fingerprint) {
+        return new IdempotencyRecord(false, fingerprint, 0, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(true, fingerprint, status, contentType, body);
+    }
+
+    /**
+     * 같은 바디로 보낸 요청인지
+     */
+    public boolean matches(String requestFingerprint) {
+        return fingerprint.equals(requestFingerprint);
+    }
+
+    String encode() {
+        if (!completed) {
+            return IN_FLIGHT_PREFIX + '\n' + fingerprint;
+        }
+        return COMPLETED_PREFIX + '\n' + fingerprint + '\n' + status + '\n'
+                + (contentType != null ? contentType : "") + '\n'
+                + Base64.getEncoder().encodeToString(body);
+    }
+
+    static IdempotencyRecord decode(String value) {
+        String[] fields = value.split("\n", -1);
+        if (IN_FLIGHT_PREFIX.equals(fields[0]) && fields.length == 2) {
+            return inFlight(fields[1]);
+        }
+        if (!COMPLETED_PREFIX.equals(fields[0]) || fields.length != 5) {
+            throw new IllegalArgumentException("Malformed idempotency record");
+        }
+        String contentType = fields[3];
+        return completed(
+                fields[1],
+                Integer.parseInt(fields[2]),
+                contentType.isEmpty() ? null : contentType,
+                Base64.getDecoder().decode(fields[4]));
+    }
+}
@@ -0,0 +1,85 @@
+package com.shopmsa.gateway.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.config.RedisBatchProperties;
+import com.shopmsa.gateway.redis.RedisMicroBatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소 (Redis)
+ * 키 하나에 처리 중 표시 → 완료 응답 순서로 덮어씀 (SET NX 로 처리 주체를 한 요청으로 제한)
+ * 조회는 중복 요청의 폴링으로 가장 많이 발생하므로 gateway.redis-batch.enabled 인 경우 MGET 으로 모아서 처리
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    // 배칭 비활성화 시 null
+    private final RedisMicroBatcher<String, Optional<String>> findBatcher;
+
+    public IdempotencyStore(ReactiveStringRedisTemplate redisTemplate, RedisBatchProperties batchProperties,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.findBatcher = batchProperties.isEnabled()
+                ? new RedisMicroBatcher<>("idempotency_find", batchProperties, this::findAll, meterRegistry)
+                : null;
+    }
+
+    /**
+     * 처리 중 표시를 선점 (이미 키가 있으면 false)
+     *
+     * @param fingerprint 요청 바디 지문 (같은 키로 다른 바디를 보낸 요청 판별용)
+     * @param lockTtl     처리 중 표시 유지 시간 (Gateway 가 응답을 저장하지 못하고 죽은 경우 대비)
+     */
+    public Mono<Boolean> tryAcquire(String key, String fingerprint, Duration lockTtl) {
+        return redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key,
+                IdempotencyRecord.inFlight(fingerprint).encode(), lockTtl);
+    }
+
+    /**
+     * 저장 상태 조회 (키가 없으면 empty)
+     */
+    public Mono<IdempotencyRecord> find(String key) {
+        Mono<String> value = findBatcher != null
+                ? findBatcher.submit(KEY_PREFIX + key).flatMap(Mono::justOrEmpty)
+                : redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return value.map(IdempotencyRecord::decode);
+    }
+
+    /**
+     * 완료 응답 저장 (처리 중 표시를 덮어씀)
+     */
+    public Mono<Boolean> complete(String key, IdempotencyRecord record, Duration ttl) {
+        return redisTemplate.opsForValue().set(KEY_PREFIX + key, record.encode(), ttl);
+    }
+
+    /**
+     * 처리 중 표시 해제 (응답을 저장하지 않는 경우 - 같은 키로 다시 시도할 수 있도록)
+     */
+    public Mono<Boolean> release(String key) {
+        return redisTemplate.opsForValue().delete(KEY_PREFIX + key);
+    }
+
+    /**
+     * 모아진 조회를 MGET 한 번으로 실행 (없는 키는 null → empty)
+     */
+    private Mono<List<Optional<String>>> findAll(List<String> keys) {
+        return redisTemplate.opsForValue().multiGet(keys)
+                .map(values -> {
+                    List<Optional<String>> results = new ArrayList<>(values.size());
+                    values.forEach(value -> results.add(Optional.ofNullable(value)));
+                    return results;
+                });
+    }
+}
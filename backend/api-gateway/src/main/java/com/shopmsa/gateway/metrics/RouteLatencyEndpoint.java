@@ -0,0 +1,95 @@
+package com.shopmsa.gateway.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics.Outcome;
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics.Phase;
+import com.shopmsa.gateway.metrics.RouteLatencyMetrics.RouteTimers;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/routelatency
+ * Route / 상태 코드 클래스별 전체 시간, 업스트림 시간, Gateway 자체 처리 시간의 백분위 (ms)
+ * p99 중 Gateway 가 차지하는 비중을 바로 확인하기 위한 용도 (장기 추세는 Prometheus 히스토그램 사용)
+ */
+@Component
+@Endpoint(id = "routelatency")
+@RequiredArgsConstructor
+public class RouteLatencyEndpoint {
+
+    private final RouteLatencyMetrics metrics;
+
+    @ReadOperation
+    public Map<String, Map<String, RouteLatency>> routes() {
+        Map<String, Map<String, RouteLatency>> result = new TreeMap<>();
+        metrics.routes().forEach((routeId, timers) -> result.put(routeId, describe(timers)));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, RouteLatency> route(@Selector String routeId) {
+        RouteTimers timers = metrics.routes().get(routeId);
+        return timers != null ? describe(timers) : Map.of();
+    }
+
+    private static Map<String, RouteLatency> describe(RouteTimers timers) {
+        Map<String, RouteLatency> byOutcome = new LinkedHashMap<>();
+        for (Outcome outcome : Outcome.values()) {
+            Timer total = timers.find(Phase.TOTAL, outcome);
+            if (total == null) {
+                continue;
+            }
+            byOutcome.put(outcome.tag(), new RouteLatency(
+                    total.count(),
+                    summarize(total),
+                    summarize(timers.find(Phase.UPSTREAM, outcome)),
+                    summarize(timers.find(Phase.OVERHEAD, outcome))));
+        }
+        return byOutcome;
+    }
+
+    private static LatencySummary summarize(Timer timer) {
+        if (timer == null) {
+            return null;
+        }
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put("p" + format(value.percentile()), value.value(TimeUnit.MILLISECONDS));
+        }
+        return new LatencySummary(snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS), percentiles);
+    }
+
+    // 0.5 -> "50", 0.99 -> "99", 0.999 -> "999"
+    private static String format(double percentile) {
+        return BigDecimal.valueOf(percentile).movePointRight(2).stripTrailingZeros()
+                .toPlainString().replace(".", "");
+    }
+
+    /**
+     * @param total    Gateway 진입부터 응답 완료까지
+     * @param upstream 업스트림 응답 헤더 수신까지 (업스트림을 호출하지 않은 경우 null)
+     * @param gateway  Gateway 필터 체인이 쓴 시간 (total - upstream)
+     */
+    public record RouteLatency(long count, LatencySummary total, LatencySummary upstream, LatencySummary gateway) {
+    }
+
+    /**
+     * mean 은 누적 평균, max / percentiles 는 distributionExpiry 윈도우 기준
+     */
+    public record LatencySummary(double meanMs, double maxMs, Map<String, Double> percentiles) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.shopmsa.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import com.shopmsa.gateway.config.RouteLatencyProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Route / 상태 코드 클래스별 지연 시간 기록기
+ *
+ * 요청마다 세 가지 시간을 기록한다 (모두 System.nanoTime() 기준).
+ * - gateway.route.latency          : Gateway 진입부터 응답 완료까지 전체 시간
+ * - gateway.route.upstream.latency : 업스트림 호출부터 응답 헤더 수신까지 (TTFB)
+ * - gateway.route.overhead         : 전체 - 업스트림 = Gateway 필터 체인이 쓴 시간
+ *
+ * Timer 는 Route 별로 상태 코드 클래스 슬롯 배열에 캐시하므로
+ * 요청 경로에서 태그 문자열 / Meter.Id 를 만들지 않음
+ */
+@Component
+public class RouteLatencyMetrics {
+
+    public static final String UNKNOWN_ROUTE = "unmatched";
+
+    /**
+     * 기록하는 시간 종류
+     */
+    public enum Phase {
+        TOTAL("gateway.route.latency"),
+        UPSTREAM("gateway.route.upstream.latency"),
+        OVERHEAD("gateway.route.overhead");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    /**
+     * 상태 코드 클래스 (ERROR: 응답 전에 오류로 끝남, CANCELLED: 클라이언트 연결 종료)
+     */
+    public enum Outcome {
+        INFORMATIONAL("1xx"),
+        SUCCESS("2xx"),
+        REDIRECTION("3xx"),
+        CLIENT_ERROR("4xx"),
+        SERVER_ERROR("5xx"),
+        ERROR("error"),
+        CANCELLED("cancelled");
+
+        private static final Outcome[] BY_CLASS = {
+                INFORMATIONAL, SUCCESS, REDIRECTION, CLIENT_ERROR, SERVER_ERROR };
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public static Outcome of(int status) {
+            int statusClass = status / 100;
+            return statusClass >= 1 && statusClass <= 5 ? BY_CLASS[statusClass - 1] : ERROR;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final RouteLatencyProperties properties;
+    private final double[] percentiles;
+
+    private final ConcurrentHashMap<String, RouteTimers> routes = new ConcurrentHashMap<>();
+
+    public RouteLatencyMetrics(MeterRegistry meterRegistry, RouteLatencyProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * 요청 1건 기록
+     *
+     * @param upstreamNanos 업스트림을 호출하지 않은 요청(Rate Limit 거절, 캐시 응답 등)은 음수
+     */
+    public void record(String routeId, Outcome outcome, long totalNanos, long upstreamNanos) {
+        RouteTimers timers = routes(routeId);
+        timers.get(Phase.TOTAL, outcome).record(totalNanos, TimeUnit.NANOSECONDS);
+        if (upstreamNanos >= 0) {
+            timers.get(Phase.UPSTREAM, outcome).record(upstreamNanos, TimeUnit.NANOSECONDS);
+            timers.get(Phase.OVERHEAD, outcome).record(Math.max(0, totalNanos - upstreamNanos), TimeUnit.NANOSECONDS);
+        } else {
+            // 업스트림 호출이 없으면 전체 시간이 곧 Gateway 처리 시간
+            timers.get(Phase.OVERHEAD, outcome).record(totalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 업스트림 2xx 응답 시간의 백분위 (ns)
+     * percentile 은 gateway.route-latency.percentiles 에 포함된 값이어야 하며,
+     * 표본이 minSamples 보다 적거나 기록이 없으면 -1
+     */
+    public long upstreamPercentileNanos(String routeId, double percentile, long minSamples) {
+        RouteTimers timers = routes.get(routeId);
+        Timer timer = timers != null ? timers.find(Phase.UPSTREAM, Outcome.SUCCESS) : null;
+        if (timer == null || timer.count() < minSamples) {
+            return -1L;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return (long) value.value(TimeUnit.NANOSECONDS);
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * Actuator 엔드포인트용 Route 별 Timer 조회
+     */
+    Map<String, RouteTimers> routes() {
+        return routes;
+    }
+
+    private RouteTimers routes(String routeId) {
+        String key = routeId != null ? routeId : UNKNOWN_ROUTE;
+        RouteTimers timers = routes.get(key);
+        return timers != null ? timers : routes.computeIfAbsent(key, RouteTimers::new);
+    }
+
+    private Timer register(Phase phase, String routeId, Outcome outcome) {
+        return Timer.builder(phase.metricName())
+                .tag("route", routeId)
+                .tag("status", outcome.tag())
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(properties.isHistogram())
+                .minimumExpectedValue(properties.getMinimumExpectedValue())
+                .maximumExpectedValue(properties.getMaximumExpectedValue())
+                .distributionStatisticExpiry(properties.getDistributionExpiry())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Route 하나의 Timer 묶음 (메트릭 종류 x 상태 코드 클래스)
+     */
+    final class RouteTimers {
+
+        private static final int OUTCOMES = Outcome.values().length;
+
+        private final String routeId;
+        private final AtomicReferenceArray<Timer> timers =
+                new AtomicReferenceArray<>(Phase.values().length * OUTCOMES);
+
+        private RouteTimers(String routeId) {
+            this.routeId = routeId;
+        }
+
+        Timer get(Phase phase, Outcome outcome) {
+            int slot = phase.ordinal() * OUTCOMES + outcome.ordinal();
+            Timer timer = timers.get(slot);
+            if (timer == null) {
+                // 같은 Meter.Id 는 레지스트리가 동일 인스턴스를 반환하므로 경합 시 중복 등록되지 않음
+                timer = register(phase, routeId, outcome);
+                timers.set(slot, timer);
+            }
+            return timer;
+        }
+
+        /**
+         * 기록된 적 있는 Timer 만 조회 (없으면 null)
+         */
+        Timer find(Phase phase, Outcome outcome) {
+            return timers.get(phase.ordinal() * OUTCOMES + outcome.ordinal());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.shopmsa.gateway.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token Bucket 설정 값
+ *
+ * @param capacity        버킷 최대 토큰 수
+ * @param refillPerSecond 초당 리필되는 토큰 수
+ */
+public record BucketSpec(long capacity, double refillPerSecond) {
+
+    public BucketSpec {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive: " + refillPerSecond);
+        }
+    }
+
+    public static BucketSpec of(long capacity, long refillTokens, Duration refillPeriod) {
+        return new BucketSpec(capacity, refillTokens * 1000.0 / refillPeriod.toMillis());
+    }
+}
@@ -0,0 +1,19 @@
+package com.shopmsa.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트 단위 Rate Limiter
+ * - EXACT : 매 요청마다 Redis 에서 판정 ({@link RedisTokenBucketRateLimiter})
+ * - LOCAL : Pod 로컬에서 판정 후 주기적으로 Redis 와 동기화 ({@link LocalAggregatingRateLimiter})
+ */
+public interface ClientRateLimiter {
+
+    /**
+     * 버킷에서 토큰 1개를 소비
+     *
+     * @param id     버킷 식별자 (예: 클라이언트 IP)
+     * @param bucket 버킷 설정
+     */
+    Mono<RateLimitResult> tryConsume(String id, BucketSpec bucket);
+}
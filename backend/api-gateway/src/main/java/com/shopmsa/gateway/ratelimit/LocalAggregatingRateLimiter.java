@@ -0,0 +1,191 @@
+package com.shopmsa.gateway.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.config.RateLimitProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 집계 Rate Limiter (LOCAL 모드)
+ *
+ * 요청 판정은 Pod 로컬 버킷 테이블에서 lock-free 로 처리하고,
+ * syncInterval 마다 로컬에서 소비한 토큰 수를 Redis 에 일괄 반영한 뒤
+ * 전역 잔여 토큰 수를 받아와 로컬 예산을 갱신한다.
+ * 소비분이 없는 버킷은 토큰이 바닥나 거부 중인 경우가 아니면 refreshInterval 마다만 전역 값을 받아옴
+ * (대부분 조용한 버킷 때문에 매 주기 Redis 에 보내는 키 수가 테이블 크기만큼 커지지 않도록).
+ *
+ * - 요청 경로에서 Redis 호출 없음 (Redis 지연이 요청 지연으로 이어지지 않음)
+ * - 동기화 주기 사이에는 Pod 수만큼 초과 허용될 수 있음 (근사치 제한)
+ * - 테이블이 가득 찬 경우 신규 키는 EXACT 판정으로 처리
+ */
+@Slf4j
+public class LocalAggregatingRateLimiter implements ClientRateLimiter {
+
+    private final RedisTokenBucketRateLimiter redisRateLimiter;
+    private final RateLimitProperties.Local properties;
+
+    // ConcurrentHashMap 은 내부적으로 bin 단위 striping 이므로 키 간 경합이 없음
+    private final ConcurrentHashMap<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+
+    private Disposable syncTask;
+
+    public LocalAggregatingRateLimiter(RedisTokenBucketRateLimiter redisRateLimiter,
+                                       RateLimitProperties.Local properties) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        // 이전 동기화가 끝나지 않았으면 이번 주기는 건너뜀 (동기화 중첩 방지)
+        syncTask = Flux.interval(properties.getSyncInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> sync()
+                        .onErrorResume(error -> {
+                            log.warn("Rate limit sync failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+        log.info("Local rate limiter started (sync interval: {})", properties.getSyncInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (syncTask != null) {
+            syncTask.dispose();
+        }
+        // 종료 전 남은 집계분 반영
+        sync().onErrorResume(error -> Mono.empty()).block(properties.getSyncInterval().multipliedBy(10));
+    }
+
+    @Override
+    public Mono<RateLimitResult> tryConsume(String id, BucketSpec bucket) {
+        LocalBucket local = buckets.get(id);
+        if (local == null) {
+            if (buckets.size() >= properties.getMaxKeys()) {
+                return redisRateLimiter.tryConsume(id, bucket);
+            }
+            local = buckets.computeIfAbsent(id, key -> new LocalBucket(bucket));
+        }
+        return Mono.just(local.tryConsume(bucket));
+    }
+
+    /**
+     * 로컬 집계분을 Redis 에 반영하고 전역 잔여 토큰으로 로컬 예산을 갱신
+     */
+    Mono<Void> sync() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        long refreshNanos = properties.getRefreshInterval().toNanos();
+
+        List<String> ids = new ArrayList<>();
+        List<LocalBucket> targets = new ArrayList<>();
+        List<BucketSpec> specs = new ArrayList<>();
+        List<Long> consumed = new ArrayList<>();
+
+        buckets.forEach((id, local) -> {
+            long delta = local.pending.sumThenReset();
+            if (delta == 0 && now - local.lastAccessNanos > idleNanos) {
+                // 반영할 집계분이 없는 유휴 버킷은 제거
+                buckets.remove(id, local);
+                return;
+            }
+            if (delta == 0 && !local.starved() && now - local.refreshedAtNanos < refreshNanos) {
+                // 반영할 소비분이 없고 거부 중도 아니면 전역 값 갱신은 refreshInterval 마다만
+                return;
+            }
+            ids.add(id);
+            targets.add(local);
+            specs.add(local.spec);
+            consumed.add(delta);
+        });
+
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+
+        int batchSize = properties.getSyncBatchSize();
+        List<Mono<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, ids.size());
+            List<LocalBucket> batchTargets = targets.subList(from, to);
+            List<Long> batchConsumed = consumed.subList(from, to);
+            batches.add(redisRateLimiter.reconcile(ids.subList(from, to), specs.subList(from, to), batchConsumed)
+                    .doOnNext(remaining -> {
+                        for (int i = 0; i < remaining.size(); i++) {
+                            batchTargets.get(i).refresh(remaining.get(i));
+                        }
+                    })
+                    .doOnError(error -> {
+                        // 반영 실패 시 집계분을 되돌려 다음 주기에 재시도
+                        for (int i = 0; i < batchTargets.size(); i++) {
+                            batchTargets.get(i).pending.add(batchConsumed.get(i));
+                        }
+                    })
+                    .then());
+        }
+        // 집계분은 위에서 모두 비웠으므로 한 배치가 실패해도 나머지 배치를 끝까지 실행
+        // (실패한 배치는 doOnError 에서 자기 집계분을 되돌림, 오류는 마지막에 전달)
+        return Flux.concatDelayError(Flux.fromIterable(batches)).then();
+    }
+
+    /**
+     * Pod 로컬 버킷
+     */
+    private static final class LocalBucket {
+
+        private final BucketSpec spec;
+
+        // 로컬에서 사용할 수 있는 토큰 (마지막 동기화 시점의 전역 잔여 토큰 - 이후 로컬 소비분)
+        private final AtomicLong available;
+
+        // 마지막 동기화 이후 로컬에서 소비한 토큰 수 (아직 Redis 에 반영되지 않음)
+        private final LongAdder pending = new LongAdder();
+
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        // 마지막으로 전역 잔여 토큰을 받아온 시각
+        private volatile long refreshedAtNanos = System.nanoTime();
+
+        private LocalBucket(BucketSpec spec) {
+            this.spec = spec;
+            // 첫 동기화 전에는 버킷이 가득 차 있다고 가정
+            this.available = new AtomicLong(spec.capacity());
+        }
+
+        private RateLimitResult tryConsume(BucketSpec requested) {
+            lastAccessNanos = System.nanoTime();
+            long left = available.decrementAndGet();
+            if (left >= 0) {
+                pending.increment();
+                return new RateLimitResult(true, requested.capacity(), left, 0);
+            }
+            // 토큰 1개가 다시 채워지는 시간 (다음 동기화에서 전역 값으로 보정됨)
+            long retryAfterMillis = (long) Math.ceil(1000 / requested.refillPerSecond());
+            return new RateLimitResult(false, requested.capacity(), 0, retryAfterMillis);
+        }
+
+        private void refresh(long globalRemaining) {
+            // 동기화 요청 이후 로컬에서 추가로 소비한 토큰은 빼고 갱신
+            available.set(globalRemaining - pending.sum());
+            refreshedAtNanos = System.nanoTime();
+        }
+
+        /**
+         * 마지막 갱신 이후 토큰 부족으로 거부한 요청이 있음 (리필된 토큰을 바로 받아와야 함)
+         */
+        private boolean starved() {
+            return available.get() < 0 && lastAccessNanos - refreshedAtNanos > 0;
+        }
+    }
+}
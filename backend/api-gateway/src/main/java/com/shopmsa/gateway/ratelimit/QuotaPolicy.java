@@ -0,0 +1,32 @@
+package com.shopmsa.gateway.ratelimit;
+
+import com.shopmsa.gateway.config.RateLimitProperties.KeyType;
+
+/**
+ * 컴파일된 Rate Limit 정책
+ *
+ * @param id      정책 ID
+ * @param bucket  버킷 설정
+ * @param keyType 버킷 키 기준 (IP / PRINCIPAL)
+ */
+public record QuotaPolicy(String id, BucketSpec bucket, KeyType keyType) {
+
+    /**
+     * 요청별 버킷 식별자
+     * PRINCIPAL 정책이라도 식별 헤더가 없으면 IP 기준으로 제한
+     */
+    public String bucketId(String clientIp, String principal) {
+        if (keyedByPrincipal(principal)) {
+            return id + ":p:" + principal;
+        }
+        return id + ":ip:" + clientIp;
+    }
+
+    /**
+     * 이 요청의 버킷이 식별 헤더 값으로 잡히는지 여부
+     * 식별 헤더는 인증 전의 클라이언트 입력이므로, true 이면 IP 단위 버킷도 함께 적용해야 함
+     */
+    public boolean keyedByPrincipal(String principal) {
+        return keyType == KeyType.PRINCIPAL && principal != null && !principal.isEmpty();
+    }
+}
@@ -0,0 +1,201 @@
+package com.shopmsa.gateway.ratelimit;
+
+import org.springframework.http.HttpMethod;
+
+import com.shopmsa.gateway.config.RateLimitProperties;
+import com.shopmsa.gateway.config.RateLimitProperties.KeyType;
+import com.shopmsa.gateway.config.RateLimitProperties.Policy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rate Limit 정책 조회 테이블
+ *
+ * 시작 시점에 설정된 정책을 (principal) -> (routeId) -> (method 슬롯) 배열로 펼쳐 두고,
+ * 요청마다 해시 조회 두 번과 배열 인덱스 한 번으로 정책을 찾는다.
+ * 같은 슬롯에 여러 정책이 걸리면 principal > route > method 순으로 더 구체적인 정책이 우선.
+ */
+public final class QuotaPolicyTable {
+
+    private static final String DEFAULT_POLICY_ID = "default";
+
+    // GET, POST, PUT, PATCH, DELETE, HEAD, OPTIONS, TRACE, 기타
+    private static final String[] METHODS = {
+            "GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS", "TRACE"
+    };
+    private static final int SLOT_COUNT = METHODS.length + 1;
+
+    private final QuotaPolicy defaultPolicy;
+    private final RouteTable generic;
+    private final Map<String, RouteTable> byPrincipal;
+
+    private QuotaPolicyTable(QuotaPolicy defaultPolicy, RouteTable generic, Map<String, RouteTable> byPrincipal) {
+        this.defaultPolicy = defaultPolicy;
+        this.generic = generic;
+        this.byPrincipal = byPrincipal;
+    }
+
+    /**
+     * 설정을 조회 테이블로 컴파일
+     */
+    public static QuotaPolicyTable compile(RateLimitProperties properties) {
+        List<Candidate> candidates = new ArrayList<>();
+        // 최하위 우선순위의 기본 정책 (gateway.rate-limit.capacity / refill-*)
+        QuotaPolicy defaultPolicy = new QuotaPolicy(DEFAULT_POLICY_ID, properties.defaultBucket(), KeyType.IP);
+        candidates.add(new Candidate(defaultPolicy, null, null, null));
+
+        Set<String> ids = new HashSet<>();
+        ids.add(DEFAULT_POLICY_ID);
+        for (Policy policy : properties.getPolicies()) {
+            if (policy.getId() == null || policy.getId().isBlank()) {
+                throw new IllegalArgumentException("Rate limit policy id is required");
+            }
+            if (!ids.add(policy.getId())) {
+                throw new IllegalArgumentException("Duplicate rate limit policy id: " + policy.getId());
+            }
+            candidates.add(new Candidate(
+                    new QuotaPolicy(policy.getId(), policy.bucket(), policy.getKeyType()),
+                    blankToNull(policy.getRouteId()),
+                    methodSlots(policy.getMethods()),
+                    blankToNull(policy.getPrincipal())));
+        }
+
+        Set<String> routeIds = new HashSet<>();
+        Set<String> principals = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            if (candidate.routeId != null) {
+                routeIds.add(candidate.routeId);
+            }
+            if (candidate.principal != null) {
+                principals.add(candidate.principal);
+            }
+        }
+
+        RouteTable generic = RouteTable.build(candidates, routeIds, null);
+        Map<String, RouteTable> byPrincipal = new HashMap<>();
+        for (String principal : principals) {
+            byPrincipal.put(principal, RouteTable.build(candidates, routeIds, principal));
+        }
+        return new QuotaPolicyTable(defaultPolicy, generic, Map.copyOf(byPrincipal));
+    }
+
+    /**
+     * IP 단위 기본 정책
+     * principal 단위 버킷과 함께 적용해 식별 헤더를 바꿔 가며 한도를 우회하는 것을 막는 데 사용
+     */
+    public QuotaPolicy defaultPolicy() {
+        return defaultPolicy;
+    }
+
+    /**
+     * 요청에 적용할 정책 조회
+     *
+     * @param routeId   매칭된 Route ID (없으면 null)
+     * @param method    HTTP Method
+     * @param principal API Key / 사용자 식별자 (없으면 null)
+     */
+    public QuotaPolicy resolve(String routeId, HttpMethod method, String principal) {
+        RouteTable table = generic;
+        if (principal != null && !byPrincipal.isEmpty()) {
+            table = byPrincipal.getOrDefault(principal, generic);
+        }
+        return table.lookup(routeId, slotOf(method));
+    }
+
+    private static int slotOf(HttpMethod method) {
+        if (method == null) {
+            return METHODS.length;
+        }
+        return switch (method.name()) {
+            case "GET" -> 0;
+            case "POST" -> 1;
+            case "PUT" -> 2;
+            case "PATCH" -> 3;
+            case "DELETE" -> 4;
+            case "HEAD" -> 5;
+            case "OPTIONS" -> 6;
+            case "TRACE" -> 7;
+            default -> METHODS.length;
+        };
+    }
+
+    private static boolean[] methodSlots(List<String> methods) {
+        if (methods == null || methods.isEmpty()) {
+            return null;
+        }
+        boolean[] slots = new boolean[SLOT_COUNT];
+        for (String method : methods) {
+            slots[slotOf(HttpMethod.valueOf(method.trim().toUpperCase()))] = true;
+        }
+        return slots;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * 설정 단계의 정책 후보
+     * routeId / methodSlots / principal 이 null 이면 전체에 적용
+     */
+    private record Candidate(QuotaPolicy policy, String routeId, boolean[] methodSlots, String principal) {
+
+        int specificity() {
+            return (principal != null ? 4 : 0) + (routeId != null ? 2 : 0) + (methodSlots != null ? 1 : 0);
+        }
+
+        boolean matches(String targetRouteId, int slot, String targetPrincipal) {
+            return (principal == null || principal.equals(targetPrincipal))
+                    && (routeId == null || routeId.equals(targetRouteId))
+                    && (methodSlots == null || methodSlots[slot]);
+        }
+    }
+
+    /**
+     * Route ID -> Method 슬롯별 정책 배열
+     */
+    private static final class RouteTable {
+
+        private final Map<String, QuotaPolicy[]> byRoute;
+        private final QuotaPolicy[] anyRoute;
+
+        private RouteTable(Map<String, QuotaPolicy[]> byRoute, QuotaPolicy[] anyRoute) {
+            this.byRoute = byRoute;
+            this.anyRoute = anyRoute;
+        }
+
+        static RouteTable build(List<Candidate> candidates, Set<String> routeIds, String principal) {
+            Map<String, QuotaPolicy[]> byRoute = new HashMap<>();
+            for (String routeId : routeIds) {
+                byRoute.put(routeId, slots(candidates, routeId, principal));
+            }
+            return new RouteTable(Map.copyOf(byRoute), slots(candidates, null, principal));
+        }
+
+        private static QuotaPolicy[] slots(List<Candidate> candidates, String routeId, String principal) {
+            QuotaPolicy[] slots = new QuotaPolicy[SLOT_COUNT];
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                Candidate best = null;
+                for (Candidate candidate : candidates) {
+                    if (candidate.matches(routeId, slot, principal)
+                            && (best == null || candidate.specificity() > best.specificity())) {
+                        best = candidate;
+                    }
+                }
+                // 기본 정책이 항상 매칭되므로 best 는 null 이 아님
+                slots[slot] = best.policy();
+            }
+            return slots;
+        }
+
+        QuotaPolicy lookup(String routeId, int slot) {
+            QuotaPolicy[] slots = routeId != null ? byRoute.getOrDefault(routeId, anyRoute) : anyRoute;
+            return slots[slot];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.shopmsa.gateway.ratelimit;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed          요청 허용 여부
+ * @param limit            버킷 용량
+ * @param remaining        남은 토큰 수
+ * @param retryAfterMillis 다음 토큰이 채워질 때까지 대기 시간 (거부된 경우)
+ */
+public record RateLimitResult(boolean allowed, long limit, long remaining, long retryAfterMillis) {
+
+    /**
+     * 다음 요청까지 대기 시간 (초 단위, 올림)
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    /**
+     * 두 버킷에 함께 적용한 판정 중 더 엄격한 쪽
+     * (거부된 쪽 우선, 둘 다 같으면 남은 토큰이 적은 쪽)
+     */
+    public static RateLimitResult stricter(RateLimitResult a, RateLimitResult b) {
+        if (a.allowed() != b.allowed()) {
+            return a.allowed() ? b : a;
+        }
+        if (!a.allowed()) {
+            return a.retryAfterMillis() >= b.retryAfterMillis() ? a : b;
+        }
+        return a.remaining() <= b.remaining() ? a : b;
+    }
+}
@@ -0,0 +1,132 @@
+package com.shopmsa.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import com.shopmsa.gateway.config.RedisBatchProperties;
+import com.shopmsa.gateway.redis.RedisMicroBatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis Token Bucket Rate Limiter (EXACT 모드)
+ * 리필 / 소비 / TTL 설정을 Lua 스크립트 한 번으로 처리 (Redis 왕복 1회)
+ * gateway.redis-batch.enabled 인 경우 동시에 들어온 판정을 모아 다중 판정 스크립트 한 번으로 처리
+ */
+@Component
+public class RedisTokenBucketRateLimiter implements ClientRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> requestRateLimiterScript;
+    private final RedisScript<List<Long>> requestRateLimiterBatchScript;
+    private final RedisScript<List<Long>> requestRateLimiterMultiScript;
+
+    // 배칭 비활성화 시 null
+    private final RedisMicroBatcher<ConsumeCommand, RateLimitResult> batcher;
+
+    public RedisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                       RedisScript<List<Long>> requestRateLimiterScript,
+                                       RedisScript<List<Long>> requestRateLimiterBatchScript,
+                                       RedisScript<List<Long>> requestRateLimiterMultiScript,
+                                       RedisBatchProperties batchProperties,
+                                       MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.requestRateLimiterScript = requestRateLimiterScript;
+        this.requestRateLimiterBatchScript = requestRateLimiterBatchScript;
+        this.requestRateLimiterMultiScript = requestRateLimiterMultiScript;
+        this.batcher = batchProperties.isEnabled()
+                ? new RedisMicroBatcher<>("rate_limit", batchProperties, this::consumeAll, meterRegistry)
+                : null;
+    }
+
+    @Override
+    public Mono<RateLimitResult> tryConsume(String id, BucketSpec bucket) {
+        return tryConsume(id, bucket, 1);
+    }
+
+    /**
+     * 버킷에서 토큰을 소비
+     *
+     * @param id     버킷 식별자 (예: 클라이언트 IP)
+     * @param bucket 버킷 설정
+     * @param tokens 소비할 토큰 수
+     */
+    public Mono<RateLimitResult> tryConsume(String id, BucketSpec bucket, long tokens) {
+        if (batcher != null) {
+            return batcher.submit(new ConsumeCommand(id, bucket, tokens));
+        }
+        List<String> keys = List.of(KEY_PREFIX + id);
+        List<String> args = List.of(
+                Long.toString(bucket.capacity()),
+                Double.toString(bucket.refillPerSecond()),
+                Long.toString(tokens));
+
+        return redisTemplate.execute(requestRateLimiterScript, keys, args)
+                .next()
+                .map(result -> new RateLimitResult(
+                        result.get(0) == 1L,
+                        bucket.capacity(),
+                        result.get(1),
+                        result.get(2)));
+    }
+
+    /**
+     * 로컬에서 소비한 토큰 수를 여러 버킷에 한 번에 반영 (EVALSHA 1회)
+     *
+     * @param ids      버킷 식별자 목록
+     * @param buckets  버킷 설정 목록 (ids 와 같은 순서)
+     * @param consumed 버킷별 소비 토큰 수 (ids 와 같은 순서)
+     * @return 반영 후 버킷별 남은 토큰 수 (ids 와 같은 순서)
+     */
+    public Mono<List<Long>> reconcile(List<String> ids, List<BucketSpec> buckets, List<Long> consumed) {
+        List<String> keys = new ArrayList<>(ids.size());
+        List<String> args = new ArrayList<>(ids.size() * 3);
+        for (int i = 0; i < ids.size(); i++) {
+            BucketSpec bucket = buckets.get(i);
+            keys.add(KEY_PREFIX + ids.get(i));
+            args.add(Long.toString(bucket.capacity()));
+            args.add(Double.toString(bucket.refillPerSecond()));
+            args.add(Long.toString(consumed.get(i)));
+        }
+
+        return redisTemplate.execute(requestRateLimiterBatchScript, keys, args)
+                .next();
+    }
+
+    /**
+     * 모아진 판정을 다중 판정 스크립트로 한 번에 실행 (EVALSHA 1회)
+     */
+    private Mono<List<RateLimitResult>> consumeAll(List<ConsumeCommand> commands) {
+        List<String> keys = new ArrayList<>(commands.size());
+        List<String> args = new ArrayList<>(commands.size() * 3);
+        for (ConsumeCommand command : commands) {
+            keys.add(KEY_PREFIX + command.id());
+            args.add(Long.toString(command.bucket().capacity()));
+            args.add(Double.toString(command.bucket().refillPerSecond()));
+            args.add(Long.toString(command.tokens()));
+        }
+
+        return redisTemplate.execute(requestRateLimiterMultiScript, keys, args)
+                .next()
+                .map(result -> {
+                    List<RateLimitResult> results = new ArrayList<>(commands.size());
+                    for (int i = 0; i < commands.size() && 3 * i + 2 < result.size(); i++) {
+                        results.add(new RateLimitResult(
+                                result.get(3 * i) == 1L,
+                                commands.get(i).bucket().capacity(),
+                                result.get(3 * i + 1),
+                                result.get(3 * i + 2)));
+                    }
+                    return results;
+                });
+    }
+
+    private record ConsumeCommand(String id, BucketSpec bucket, long tokens) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.shopmsa.gateway.redis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import com.shopmsa.gateway.config.RedisBatchProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Redis 명령 마이크로 배처
+ *
+ * 여러 요청(exchange)에서 동시에 들어온 같은 종류의 명령을 maxDelay 동안 또는 maxBatchSize 개까지 모아
+ * 한 번의 명령(다중 키 Lua 스크립트 / MGET 등)으로 전송하고 결과를 요청별로 나눠 돌려줌.
+ * 높은 RPS 에서 명령당 왕복 / write syscall 이 배치당 1회로 줄어 커넥션 하나의 처리량이 늘어남.
+ *
+ * - 배치 실행 함수는 입력과 같은 순서 / 같은 개수의 결과를 돌려줘야 함
+ * - 배치가 실패하면 배치에 포함된 모든 요청에 같은 오류 전달 (호출 측의 Fail-Open 처리 그대로 사용)
+ * - 구독을 취소한 요청도 이미 큐에 들어갔으면 배치에는 포함됨 (결과만 버림)
+ *
+ * 메트릭
+ * - gateway.redis.batch.size{batcher}: 배치당 명령 수
+ * - gateway.redis.batch.queue.delay{batcher}: 명령이 큐에 들어와 전송될 때까지 대기한 시간
+ *
+ * @param <I> 명령 입력 (예: 버킷 키 + 인자)
+ * @param <O> 명령 결과
+ */
+@Slf4j
+public class RedisMicroBatcher<I, O> {
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Function<List<I>, Mono<List<O>>> executor;
+    private final Scheduler scheduler = Schedulers.parallel();
+
+    private final Queue<Pending<I, O>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // maxDelay 후 전송 작업이 예약되어 있는지 (예약은 한 번에 하나만)
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+
+    /**
+     * @param name     메트릭 태그 (batcher)
+     * @param executor 모은 입력을 한 번에 실행하는 함수
+     */
+    public RedisMicroBatcher(String name, RedisBatchProperties properties,
+                             Function<List<I>, Mono<List<O>>> executor, MeterRegistry meterRegistry) {
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.executor = executor;
+        this.batchSize = DistributionSummary.builder("gateway.redis.batch.size")
+                .tag("batcher", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder("gateway.redis.batch.queue.delay")
+                .tag("batcher", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 명령을 다음 배치에 추가 (구독 시점에 큐에 들어감)
+     */
+    public Mono<O> submit(I input) {
+        return Mono.defer(() -> {
+            Pending<I, O> pending = new Pending<>(input, Sinks.one(), System.nanoTime());
+            queue.add(pending);
+            if (queued.incrementAndGet() >= maxBatchSize) {
+                flush();
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(this::flushDue, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            return pending.result().asMono();
+        });
+    }
+
+    private void flushDue() {
+        // 전송 전에 해제해야 이후 들어온 명령이 다음 전송을 예약할 수 있음
+        flushScheduled.set(false);
+        flush();
+    }
+
+    /**
+     * 큐에 쌓인 명령을 maxBatchSize 단위로 꺼내 전송
+     */
+    private void flush() {
+        List<Pending<I, O>> batch;
+        while (!(batch = drain()).isEmpty()) {
+            execute(batch);
+            if (batch.size() < maxBatchSize) {
+                break;
+            }
+        }
+        // 전송 중에 들어왔지만 예약을 놓친 명령이 남지 않도록
+        if (queued.get() > 0 && flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flushDue, maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<Pending<I, O>> drain() {
+        List<Pending<I, O>> batch = new ArrayList<>(Math.min(queued.get(), maxBatchSize));
+        Pending<I, O> pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        queued.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void execute(List<Pending<I, O>> batch) {
+        long now = System.nanoTime();
+        List<I> inputs = new ArrayList<>(batch.size());
+        for (Pending<I, O> pending : batch) {
+            queueDelay.record(now - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            inputs.add(pending.input());
+        }
+        batchSize.record(batch.size());
+
+        Mono<List<O>> results;
+        try {
+            results = executor.apply(inputs);
+        } catch (RuntimeException e) {
+            results = Mono.error(e);
+        }
+        results.subscribe(
+                values -> complete(batch, values),
+                error -> batch.forEach(pending -> pending.result().tryEmitError(error)),
+                () -> batch.forEach(pending -> pending.result().tryEmitError(
+                        new IllegalStateException("Redis batch returned no result"))));
+    }
+
+    private void complete(List<Pending<I, O>> batch, List<O> values) {
+        if (values.size() != batch.size()) {
+            IllegalStateException error = new IllegalStateException(
+                    "Redis batch result size mismatch: expected " + batch.size() + ", got " + values.size());
+            log.warn(error.getMessage());
+            batch.forEach(pending -> pending.result().tryEmitError(error));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().tryEmitValue(values.get(i));
+        }
+    }
+
+    private record Pending<I, O>(I input, Sinks.One<O> result, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.shopmsa.gateway.route;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.shopmsa.gateway.config.RouteTableProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 파일 기반 Route 정의 (재시작 없이 반영)
+ *
+ * application.yml 의 routes 와 같은 형식의 YAML 파일을 읽어 RouteDefinition 으로 제공하고,
+ * pollInterval 마다 파일 내용을 비교해 바뀌었으면 다시 읽은 뒤 RefreshRoutesEvent 를 발행.
+ * Gateway 는 Route 를 새로 만들어 한 번에 교체하므로 진행 중인 요청에는 영향이 없고,
+ * 재시작과 달리 업스트림 커넥션 풀 / Circuit Breaker 상태가 유지됨.
+ *
+ * 파일 형식 오류 / id 중복 등 검증에 실패하면 이전 정의를 그대로 유지.
+ *
+ * <pre>
+ * routes:
+ *   - id: partner-service
+ *     uri: http://partner-service:8084
+ *     predicates:
+ *       - Path=/api/partners/**
+ *     filters:
+ *       - StripPrefix=0
+ * </pre>
+ */
+@Slf4j
+public class FileRouteDefinitionLocator implements RouteDefinitionLocator {
+
+    private static final String ROUTES_PROPERTY = "routes";
+
+    private final Path location;
+    private final RouteTableProperties.File properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter reloadSuccess;
+    private final Counter reloadFailure;
+
+    // 마지막으로 반영한 파일 내용 (변경 비교용)
+    private byte[] lastContent;
+    private volatile List<RouteDefinition> definitions = List.of();
+
+    private Disposable watchTask;
+
+    public FileRouteDefinitionLocator(RouteTableProperties.File properties,
+                                      ApplicationEventPublisher eventPublisher,
+                                      MeterRegistry meterRegistry) {
+        this.location = Path.of(properties.getLocation());
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.reloadSuccess = Counter.builder("gateway.route.file.reloads")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.reloadFailure = Counter.builder("gateway.route.file.reloads")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("gateway.route.file.routes", this, locator -> locator.definitions.size())
+                .description("Route definitions loaded from the route file")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        // 시작 시점에는 동기로 읽어 첫 Route 구성에 포함 (이벤트 발행 없음)
+        reload();
+        watchTask = Flux.interval(properties.getPollInterval(), properties.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromCallable(this::reload)
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .filter(changed -> changed)
+                        .doOnNext(changed -> eventPublisher.publishEvent(new RefreshRoutesEvent(this)))
+                        .onErrorResume(error -> {
+                            log.warn("Route file watch failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+        log.info("Route file watch started: {} (poll interval: {})", location, properties.getPollInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (watchTask != null) {
+            watchTask.dispose();
+        }
+    }
+
+    @Override
+    public Flux<RouteDefinition> getRouteDefinitions() {
+        return Flux.fromIterable(definitions);
+    }
+
+    /**
+     * 파일 내용이 바뀌었으면 다시 읽어 교체
+     *
+     * @return 정의가 교체되었는지
+     */
+    synchronized boolean reload() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(location);
+        } catch (NoSuchFileException e) {
+            content = new byte[0];
+        } catch (IOException e) {
+            log.warn("Route file read failed: {} ({})", location, e.getMessage());
+            return false;
+        }
+        if (Arrays.equals(content, lastContent)) {
+            return false;
+        }
+
+        try {
+            List<RouteDefinition> loaded = parse(content);
+            definitions = loaded;
+            lastContent = content;
+            reloadSuccess.increment();
+            log.info("Route file loaded: {} ({} routes)", location, loaded.size());
+            return true;
+        } catch (RuntimeException | IOException e) {
+            // 잘못된 파일이 다시 바뀔 때까지 매 주기 실패로 집계되지 않도록 내용은 기록
+            lastContent = content;
+            reloadFailure.increment();
+            log.error("Route file rejected - keeping previous {} routes: {}", definitions.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * application.yml 과 같은 Binder 로 변환 ("Path=/api/**" 같은 축약형 포함)
+     */
+    private List<RouteDefinition> parse(byte[] content) throws IOException {
+        if (content.length == 0) {
+            return List.of();
+        }
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load(location.toString(), new ByteArrayResource(content))));
+        List<RouteDefinition> loaded = binder.bind(ROUTES_PROPERTY, Bindable.listOf(RouteDefinition.class))
+                .orElse(List.of());
+
+        Set<String> ids = new HashSet<>();
+        for (RouteDefinition definition : loaded) {
+            if (definition.getId() == null || definition.getUri() == null) {
+                throw new IllegalArgumentException("Route id and uri are required: " + definition);
+            }
+            if (!ids.add(definition.getId())) {
+                throw new IllegalArgumentException("Duplicate route id: " + definition.getId());
+            }
+        }
+        return List.copyOf(loaded);
+    }
+}
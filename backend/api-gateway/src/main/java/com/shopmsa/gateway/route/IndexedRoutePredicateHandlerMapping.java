@@ -0,0 +1,123 @@
+package com.shopmsa.gateway.route;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR;
+
+/**
+ * Path 접두사 인덱스를 사용하는 RoutePredicateHandlerMapping
+ *
+ * 기본 구현은 요청마다 모든 Route 의 Predicate 를 순서대로 평가하지만,
+ * 여기서는 RouteIndex 로 요청 경로에 매칭될 수 있는 Route 만 골라 같은 순서로 평가.
+ * 인덱스는 Route 갱신(RefreshRoutesResultEvent) 시 새로 만들어 교체하므로 요청 경로에서 잠금이 없음.
+ *
+ * 메트릭
+ * - gateway.route.match{result=matched|unmatched}: Route 매칭 시간
+ * - gateway.route.match.candidates: 요청당 평가한 후보 Route 수
+ */
+@Slf4j
+public class IndexedRoutePredicateHandlerMapping extends RoutePredicateHandlerMapping
+        implements ApplicationListener<RefreshRoutesResultEvent> {
+
+    private final RouteLocator routeLocator;
+    private final RouteDefinitionLocator routeDefinitionLocator;
+
+    private final Timer matchedTimer;
+    private final Timer unmatchedTimer;
+    private final DistributionSummary candidateCount;
+
+    private volatile Mono<RouteIndex> index;
+
+    public IndexedRoutePredicateHandlerMapping(FilteringWebHandler webHandler, RouteLocator routeLocator,
+                                               RouteDefinitionLocator routeDefinitionLocator,
+                                               GlobalCorsProperties globalCorsProperties, Environment environment,
+                                               MeterRegistry meterRegistry) {
+        super(webHandler, routeLocator, globalCorsProperties, environment);
+        this.routeLocator = routeLocator;
+        this.routeDefinitionLocator = routeDefinitionLocator;
+        this.matchedTimer = Timer.builder("gateway.route.match")
+                .tag("result", "matched")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.unmatchedTimer = Timer.builder("gateway.route.match")
+                .tag("result", "unmatched")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.candidateCount = DistributionSummary.builder("gateway.route.match.candidates")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshRoutesResultEvent event) {
+        if (event.isSuccess()) {
+            // 다음 요청에서 한 번만 만들어짐 (그 전까지 진행 중인 요청은 이전 인덱스 사용)
+            index = buildIndex();
+        }
+    }
+
+    @Override
+    protected Mono<Route> lookupRoute(ServerWebExchange exchange) {
+        long startNanos = System.nanoTime();
+        return index()
+                .flatMap(current -> {
+                    List<Route> candidates = current.candidates(exchange.getRequest().getPath().pathWithinApplication());
+                    candidateCount.record(candidates.size());
+                    return Flux.fromIterable(candidates)
+                            .concatMap(route -> Mono.just(route)
+                                    .filterWhen(candidate -> {
+                                        exchange.getAttributes().put(GATEWAY_PREDICATE_ROUTE_ATTR, candidate.getId());
+                                        return candidate.getPredicate().apply(exchange);
+                                    })
+                                    .doOnError(error -> log.error("Error applying predicate for route: {}",
+                                            route.getId(), error))
+                                    .onErrorResume(error -> Mono.empty()))
+                            .next();
+                })
+                .map(route -> {
+                    validateRoute(route, exchange);
+                    return route;
+                })
+                .doOnSuccess(route -> (route != null ? matchedTimer : unmatchedTimer)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private Mono<RouteIndex> index() {
+        Mono<RouteIndex> current = index;
+        if (current == null) {
+            current = buildIndex();
+            index = current;
+        }
+        return current;
+    }
+
+    private Mono<RouteIndex> buildIndex() {
+        return Mono.zip(
+                        routeLocator.getRoutes().collectList(),
+                        routeDefinitionLocator.getRouteDefinitions()
+                                .collectMap(RouteDefinition::getId))
+                .map(tuple -> RouteIndex.build(tuple.getT1(), tuple.getT2()))
+                .doOnNext(built -> log.info("Route index built ({} routes)", built.size()))
+                // 실패는 캐시하지 않음 (다음 요청에서 다시 생성)
+                .cache(built -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+}
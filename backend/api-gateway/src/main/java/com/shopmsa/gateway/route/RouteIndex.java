@@ -0,0 +1,173 @@
+package com.shopmsa.gateway.route;
+
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.support.NameUtils;
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path 접두사 트라이 기반 Route 인덱스 (불변, Route 갱신 시 새로 만들어 교체)
+ *
+ * 각 Route 의 Path Predicate 패턴에서 와일드카드 / 변수 앞까지의 고정 세그먼트를 트라이에 등록하고,
+ * 요청 경로를 따라 내려가며 만나는 Route 만 후보로 돌려줌. 후보의 Predicate 는 원래 순서대로 다시 평가하므로
+ * 인덱스는 후보를 줄이기만 하고 매칭 결과는 기본 방식과 같음.
+ *
+ * Path Predicate 가 없거나 정의를 알 수 없는 Route (Java DSL 등) 는 항상 후보에 포함.
+ */
+public final class RouteIndex {
+
+    private static final String PATH_PREDICATE = NameUtils.normalizeRoutePredicateName(PathRoutePredicateFactory.class);
+
+    // Route 순서대로 (order 정렬 결과)
+    private final List<Route> routes;
+    private final Node root;
+
+    // 항상 후보인 Route 위치
+    private final int[] unindexed;
+
+    // 후보 최대 개수 (패턴이 여러 개인 Route 는 여러 번 등록됨)
+    private final int maxCandidates;
+
+    private RouteIndex(List<Route> routes, Node root, int[] unindexed, int maxCandidates) {
+        this.routes = routes;
+        this.root = root;
+        this.unindexed = unindexed;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * @param routes      RouteLocator 의 Route (순서 유지)
+     * @param definitions Route ID -> RouteDefinition
+     */
+    public static RouteIndex build(List<Route> routes, Map<String, RouteDefinition> definitions) {
+        MutableNode root = new MutableNode();
+        List<Integer> unindexed = new ArrayList<>();
+        int entries = 0;
+        for (int position = 0; position < routes.size(); position++) {
+            List<List<String>> prefixes = literalPrefixes(definitions.get(routes.get(position).getId()));
+            if (prefixes == null) {
+                unindexed.add(position);
+                continue;
+            }
+            for (List<String> prefix : prefixes) {
+                MutableNode node = root;
+                for (String segment : prefix) {
+                    node = node.children.computeIfAbsent(segment, key -> new MutableNode());
+                }
+                node.routes.add(position);
+                entries++;
+            }
+        }
+        return new RouteIndex(List.copyOf(routes), root.freeze(),
+                unindexed.stream().mapToInt(Integer::intValue).toArray(), unindexed.size() + entries);
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * 요청 경로에 매칭될 수 있는 Route (원래 순서)
+     */
+    public List<Route> candidates(PathContainer path) {
+        int[] positions = new int[maxCandidates];
+        int count = 0;
+        for (int position : unindexed) {
+            positions[count++] = position;
+        }
+
+        Node node = root;
+        count = node.collect(positions, count);
+        for (PathContainer.Element element : path.elements()) {
+            if (!(element instanceof PathContainer.PathSegment segment)) {
+                continue;
+            }
+            node = node.children.get(segment.valueToMatch());
+            if (node == null) {
+                break;
+            }
+            count = node.collect(positions, count);
+        }
+
+        Arrays.sort(positions, 0, count);
+        List<Route> candidates = new ArrayList<>(count);
+        int previous = -1;
+        for (int i = 0; i < count; i++) {
+            // 패턴이 여러 개인 Route 는 중복될 수 있음
+            if (positions[i] != previous) {
+                candidates.add(routes.get(positions[i]));
+                previous = positions[i];
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Path Predicate 패턴별 고정 세그먼트 (인덱스에 넣을 수 없으면 null)
+     * 여러 Path Predicate 가 있으면 (AND) 첫 번째만 사용 - 후보가 넓어질 뿐 결과는 같음
+     */
+    private static List<List<String>> literalPrefixes(RouteDefinition definition) {
+        if (definition == null) {
+            return null;
+        }
+        return definition.getPredicates().stream()
+                .filter(predicate -> PATH_PREDICATE.equalsIgnoreCase(predicate.getName()))
+                .findFirst()
+                .map(predicate -> {
+                    List<List<String>> prefixes = new ArrayList<>();
+                    predicate.getArgs().forEach((name, value) -> {
+                        if (!name.startsWith(NameUtils.GENERATED_NAME_PREFIX) && !name.startsWith("patterns")) {
+                            return;
+                        }
+                        for (String pattern : value.split(",")) {
+                            prefixes.add(literalSegments(pattern.trim()));
+                        }
+                    });
+                    return prefixes.isEmpty() ? null : prefixes;
+                })
+                .orElse(null);
+    }
+
+    private static List<String> literalSegments(String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                break;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private record Node(Map<String, Node> children, int[] routes) {
+
+        int collect(int[] positions, int count) {
+            for (int position : routes) {
+                positions[count++] = position;
+            }
+            return count;
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<String, MutableNode> children = new HashMap<>();
+        private final List<Integer> routes = new ArrayList<>();
+
+        private Node freeze() {
+            Map<String, Node> frozen = new HashMap<>(children.size());
+            children.forEach((segment, child) -> frozen.put(segment, child.freeze()));
+            return new Node(Map.copyOf(frozen), routes.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.shopmsa.gateway.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 응답 바디를 클라이언트로 스트리밍하면서 동시에 바이트 배열로 복사해 두는 Response 데코레이터
+ * (응답 캐시 / 멱등 응답 저장 등에서 업스트림 응답을 재사용할 때 사용)
+ *
+ * 바디를 모두 모은 뒤 내보내는 방식(join)이 아니므로 응답 지연이 늘지 않음.
+ * maxBytes 를 넘는 응답은 복사를 중단하고 그대로 전달만 함.
+ * SSE 등 스트리밍 응답(writeAndFlushWith)은 복사하지 않음.
+ */
+public class BodyCapturingResponse extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Function<ServerHttpResponse, Consumer<byte[]>> captureDecision;
+
+    /**
+     * @param captureDecision 바디 쓰기 직전(헤더 커밋 전)에 호출, 복사할 응답이면 완료 시 바디를 받을 Consumer 반환 (아니면 null)
+     */
+    public BodyCapturingResponse(ServerHttpResponse delegate, int maxBytes,
+                                 Function<ServerHttpResponse, Consumer<byte[]>> captureDecision) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.captureDecision = captureDecision;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength > maxBytes) {
+            return super.writeWith(body);
+        }
+        Consumer<byte[]> onCaptured = captureDecision.apply(getDelegate());
+        if (onCaptured == null) {
+            return super.writeWith(body);
+        }
+
+        ByteCollector collector = new ByteCollector(contentLength >= 0 ? (int) contentLength : 1024, maxBytes);
+        return super.writeWith(Flux.from(body).doOnNext(collector::append))
+                .doOnSuccess(done -> {
+                    if (!collector.overflow) {
+                        onCaptured.accept(collector.toByteArray());
+                    }
+                });
+    }
+
+    /**
+     * DataBuffer 의 읽기 위치를 바꾸지 않고 바이트만 복사 (버퍼는 그대로 다음 단계로 전달되어 해제됨)
+     */
+    private static final class ByteCollector {
+
+        private final int maxBytes;
+        private byte[] bytes;
+        private int size;
+        private boolean overflow;
+
+        private ByteCollector(int initialCapacity, int maxBytes) {
+            this.maxBytes = maxBytes;
+            this.bytes = new byte[Math.min(initialCapacity, maxBytes)];
+        }
+
+        private void append(DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (size + length > maxBytes) {
+                overflow = true;
+                bytes = null;
+                return;
+            }
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.min(maxBytes, Math.max(size + length, bytes.length * 2)));
+            }
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), size, length);
+            size += length;
+        }
+
+        private byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+    }
+}
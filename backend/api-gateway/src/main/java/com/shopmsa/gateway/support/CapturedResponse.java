@@ -0,0 +1,66 @@
+package com.shopmsa.gateway.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 다른 요청에 그대로 재사용할 수 있는 업스트림 응답 (상태 코드 / 헤더 / 직렬화된 바디 바이트)
+ * 응답 캐시, 동일 요청 병합(single-flight)에서 공유
+ *
+ * @param headers 읽기 전용, 요청 단위로 달라지는 헤더는 제외
+ */
+public record CapturedResponse(int status, HttpHeaders headers, byte[] body) {
+
+    // 요청 단위로 달라지는 헤더 / 연결 헤더는 재사용하지 않음
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "transfer-encoding", "connection", "keep-alive", "date",
+            "x-request-id", "x-correlation-id", "x-response-time", "retry-after");
+    private static final String RATE_LIMIT_HEADER_PREFIX = "x-rate-limit-";
+
+    /**
+     * 다른 클라이언트에게 재사용해도 되는 응답인지 (쿠키 / 개인화 응답 제외)
+     */
+    public static boolean isShareable(HttpHeaders headers) {
+        if (headers.containsHeader(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+                || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    /**
+     * 헤더 커밋 전 응답에서 상태 코드 / 재사용 가능한 헤더만 복사 (바디는 나중에 채움)
+     */
+    public static CapturedResponse snapshot(ServerHttpResponse response, byte[] body) {
+        HttpStatusCode statusCode = response.getStatusCode();
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lowerName) && !lowerName.startsWith(RATE_LIMIT_HEADER_PREFIX)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return new CapturedResponse(statusCode != null ? statusCode.value() : 200,
+                HttpHeaders.readOnlyHttpHeaders(headers), body);
+    }
+
+    public CapturedResponse withBody(byte[] body) {
+        return new CapturedResponse(status, headers, body);
+    }
+
+    /**
+     * 응답 쓰기 - 저장된 byte[] 를 감싸기만 하고 복사하지 않음
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatusCode.valueOf(status));
+        response.getHeaders().putAll(headers);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.shopmsa.gateway.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * 클라이언트 IP 추출
+ *
+ * 신뢰하는 프록시에서 온 요청만 X-Forwarded-For / X-Real-IP 를 사용하고,
+ * X-Forwarded-For 는 split 없이 오른쪽(가장 가까운 홉)부터 인덱스로 훑어
+ * 첫 번째 비신뢰 주소를 반환 (클라이언트가 맨 앞에 넣은 위조 주소는 무시됨)
+ */
+public final class ClientIpResolver {
+
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    public static final String X_REAL_IP = "X-Real-IP";
+
+    private static final String UNKNOWN = "unknown";
+
+    private ClientIpResolver() {
+    }
+
+    public static String resolve(ServerHttpRequest request, TrustedProxies trustedProxies) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        InetAddress remote = remoteAddress != null ? remoteAddress.getAddress() : null;
+        HttpHeaders headers = request.getHeaders();
+        return resolve(headers.getFirst(X_FORWARDED_FOR), headers.getFirst(X_REAL_IP), remote, trustedProxies);
+    }
+
+    public static String resolve(String xForwardedFor, String xRealIp, InetAddress remote,
+                                 TrustedProxies trustedProxies) {
+        if (remote == null) {
+            return UNKNOWN;
+        }
+        if (!trustedProxies.isTrusted(remote)) {
+            return remote.getHostAddress();
+        }
+
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            String hop = lastUntrustedHop(xForwardedFor, trustedProxies);
+            if (hop != null) {
+                return hop;
+            }
+        }
+
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return remote.getHostAddress();
+    }
+
+    /**
+     * X-Forwarded-For 를 오른쪽부터 훑어 첫 번째 비신뢰 홉 반환
+     * 모든 홉이 신뢰 프록시이면 가장 왼쪽(원 클라이언트) 홉 반환
+     */
+    private static String lastUntrustedHop(String header, TrustedProxies trustedProxies) {
+        int end = header.length();
+        int first = -1;
+        int firstEnd = -1;
+        while (end > 0) {
+            int comma = header.lastIndexOf(',', end - 1);
+            int start = trimStart(header, comma + 1, end);
+            int stop = trimEnd(header, start, end);
+            if (start < stop) {
+                if (!trustedProxies.isTrusted(header, start, stop)) {
+                    return slice(header, start, stop);
+                }
+                first = start;
+                firstEnd = stop;
+            }
+            end = comma < 0 ? 0 : comma;
+        }
+        return first < 0 ? null : slice(header, first, firstEnd);
+    }
+
+    private static int trimStart(String value, int start, int end) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start, int end) {
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static String slice(String value, int start, int end) {
+        // 단일 홉 헤더는 원본 문자열을 그대로 사용 (추가 할당 없음)
+        return start == 0 && end == value.length() ? value : value.substring(start, end);
+    }
+}
@@ -0,0 +1,81 @@
+package com.shopmsa.gateway.support;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * ETag 생성 / If-None-Match 비교 (조건부 GET 필터, 통합 API 문서 핸들러에서 공유)
+ *
+ * ETag 는 바디 SHA-256 의 앞 128bit 를 base64url 로 인코딩한 값 (충돌 가능성은 무시할 수 있음).
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update(body);
+        return quoted(digest.digest());
+    }
+
+    public static String of(List<DataBuffer> buffers) {
+        MessageDigest digest = sha256();
+        for (DataBuffer buffer : buffers) {
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    digest.update(iterator.next());
+                }
+            }
+        }
+        return quoted(digest.digest());
+    }
+
+    /**
+     * weak ETag (W/"...") 로 변환
+     * strong ETag 는 content-coding 별로 달라야 하므로(RFC 9110 8.8.3) 압축 전 바디 기준 ETag 는 weak 로 표시
+     */
+    public static String weak(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag : WEAK_PREFIX + etag;
+    }
+
+    /**
+     * If-None-Match 비교 (weak 비교 - RFC 9110 13.1.2, "*" / 쉼표 목록 지원)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || opaqueTag(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+
+    private static String quoted(byte[] hash) {
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
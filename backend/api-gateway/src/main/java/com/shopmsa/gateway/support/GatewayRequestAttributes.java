@@ -0,0 +1,43 @@
+package com.shopmsa.gateway.support;
+
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 요청 단위 공통 속성 (Exchange Attribute)
+ * RequestAttributesFilter 가 요청당 한 번만 계산해 저장하고 이후 필터는 여기서 조회
+ */
+public final class GatewayRequestAttributes {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-ID";
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+
+    public static final String CLIENT_IP_ATTR = GatewayRequestAttributes.class.getName() + ".clientIp";
+    public static final String REQUEST_ID_ATTR = GatewayRequestAttributes.class.getName() + ".requestId";
+    public static final String CORRELATION_ID_ATTR = GatewayRequestAttributes.class.getName() + ".correlationId";
+
+    // 업스트림 호출 ~ 응답 헤더 수신까지 걸린 시간 (ns, UpstreamLatencyFilter 가 기록)
+    public static final String UPSTREAM_NANOS_ATTR = GatewayRequestAttributes.class.getName() + ".upstreamNanos";
+
+    private GatewayRequestAttributes() {
+    }
+
+    public static String clientIp(ServerWebExchange exchange) {
+        return exchange.getAttributeOrDefault(CLIENT_IP_ATTR, "unknown");
+    }
+
+    public static String requestId(ServerWebExchange exchange) {
+        return exchange.getAttribute(REQUEST_ID_ATTR);
+    }
+
+    public static String correlationId(ServerWebExchange exchange) {
+        return exchange.getAttribute(CORRELATION_ID_ATTR);
+    }
+
+    /**
+     * 업스트림 시간 (업스트림을 호출하지 않은 요청은 -1)
+     */
+    public static long upstreamNanos(ServerWebExchange exchange) {
+        Long nanos = exchange.getAttribute(UPSTREAM_NANOS_ATTR);
+        return nanos != null ? nanos : -1L;
+    }
+}
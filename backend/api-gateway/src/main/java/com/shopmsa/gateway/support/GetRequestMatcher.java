@@ -0,0 +1,65 @@
+package com.shopmsa.gateway.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * GET 요청 대상 경로 판별 / 동일 요청 키 생성
+ * 응답 캐시, 동일 요청 병합 필터에서 Route 설정(paths, key-headers)을 한 번만 파싱해 사용
+ */
+public final class GetRequestMatcher {
+
+    private final List<PathPattern> paths;
+    private final List<String> keyHeaders;
+
+    /**
+     * @param paths      대상 경로 패턴 (비우면 모든 경로)
+     * @param keyHeaders 키에 포함할 요청 헤더 (응답이 헤더에 따라 달라지는 경우)
+     */
+    public GetRequestMatcher(List<String> paths, List<String> keyHeaders) {
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.keyHeaders = List.copyOf(keyHeaders);
+    }
+
+    public boolean matches(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method + Path + Query + 지정 헤더 값
+     */
+    public String key(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        String query = request.getURI().getRawQuery();
+        StringBuilder key = new StringBuilder(path.length() + 64)
+                .append("GET ").append(path);
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        HttpHeaders headers = request.getHeaders();
+        for (String header : keyHeaders) {
+            key.append('\n').append(header).append('=');
+            List<String> values = headers.get(header);
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.shopmsa.gateway.support;
+
+import java.util.UUID;
+
+/**
+ * 기존 방식의 랜덤 UUID (v4) 생성기
+ * 공유 SecureRandom 을 사용하므로 요청량이 많으면 스레드 간 경합이 생길 수 있음
+ */
+public class RandomUuidGenerator implements RequestIdGenerator {
+
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,10 @@
+package com.shopmsa.gateway.support;
+
+/**
+ * Request ID / Correlation ID 생성기
+ * gateway.request-id.generator 로 구현 선택 (time-ordered | random)
+ */
+public interface RequestIdGenerator {
+
+    String nextId();
+}
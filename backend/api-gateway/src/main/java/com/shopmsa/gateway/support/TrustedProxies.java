@@ -0,0 +1,195 @@
+package com.shopmsa.gateway.support;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신뢰하는 프록시 대역 (CIDR)
+ * 헤더 값은 클라이언트가 임의로 넣을 수 있으므로 DNS 조회 없이 IP 리터럴만 해석
+ * IPv4 는 int 비교로 처리해 요청 경로에서 객체를 생성하지 않음
+ */
+public final class TrustedProxies {
+
+    private static final long INVALID = -1L;
+
+    // IPv4 대역 (network, mask 쌍)
+    private final int[] v4Networks;
+    private final int[] v4Masks;
+
+    // IPv6 대역
+    private final List<Cidr6> v6Ranges;
+
+    private TrustedProxies(int[] v4Networks, int[] v4Masks, List<Cidr6> v6Ranges) {
+        this.v4Networks = v4Networks;
+        this.v4Masks = v4Masks;
+        this.v6Ranges = v6Ranges;
+    }
+
+    /**
+     * "10.0.0.0/8", "192.168.0.10", "::1/128" 형식의 목록으로 생성
+     */
+    public static TrustedProxies of(List<String> cidrs) {
+        List<int[]> v4 = new ArrayList<>();
+        List<Cidr6> v6 = new ArrayList<>();
+        for (String value : cidrs) {
+            String cidr = value.trim();
+            int slash = cidr.indexOf('/');
+            String address = slash < 0 ? cidr : cidr.substring(0, slash);
+            if (address.indexOf(':') >= 0) {
+                byte[] network = parseIpv6(address);
+                if (network == null) {
+                    throw new IllegalArgumentException("Invalid trusted proxy address: " + cidr);
+                }
+                v6.add(new Cidr6(network, prefixLength(cidr, slash, 128)));
+            } else {
+                long network = parseIpv4(address, 0, address.length());
+                if (network == INVALID) {
+                    throw new IllegalArgumentException("Invalid trusted proxy address: " + cidr);
+                }
+                int prefixLength = prefixLength(cidr, slash, 32);
+                int mask = prefixLength == 0 ? 0 : -1 << (32 - prefixLength);
+                v4.add(new int[] { (int) network & mask, mask });
+            }
+        }
+
+        int[] networks = new int[v4.size()];
+        int[] masks = new int[v4.size()];
+        for (int i = 0; i < v4.size(); i++) {
+            networks[i] = v4.get(i)[0];
+            masks[i] = v4.get(i)[1];
+        }
+        return new TrustedProxies(networks, masks, List.copyOf(v6));
+    }
+
+    public boolean isTrusted(InetAddress address) {
+        if (address == null) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        return address instanceof Inet4Address ? isTrustedV4(toInt(bytes)) : isTrustedV6(bytes);
+    }
+
+    /**
+     * IP 리터럴 문자열 검사 (IP 형식이 아니면 신뢰하지 않음)
+     */
+    public boolean isTrusted(String ip) {
+        return ip != null && isTrusted(ip, 0, ip.length());
+    }
+
+    /**
+     * 문자열의 [start, end) 구간을 IP 리터럴로 보고 검사
+     * X-Forwarded-For 를 split 없이 인덱스로 훑을 때 사용
+     */
+    public boolean isTrusted(String value, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        int colon = value.indexOf(':', start);
+        if (colon >= 0 && colon < end) {
+            // IPv6 는 드물기 때문에 InetAddress 파싱 (IPv4-mapped 주소는 4바이트로 반환됨)
+            byte[] bytes = parseIpv6(value.substring(start, end));
+            return bytes != null && (bytes.length == 4 ? isTrustedV4(toInt(bytes)) : isTrustedV6(bytes));
+        }
+        long ip = parseIpv4(value, start, end);
+        return ip != INVALID && isTrustedV4((int) ip);
+    }
+
+    private boolean isTrustedV4(int ip) {
+        for (int i = 0; i < v4Networks.length; i++) {
+            if ((ip & v4Masks[i]) == v4Networks[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTrustedV6(byte[] address) {
+        for (Cidr6 range : v6Ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * IPv4 리터럴을 부호 없는 32비트 값으로 파싱 (형식이 아니면 INVALID)
+     */
+    static long parseIpv4(String value, int start, int end) {
+        long ip = 0;
+        int octets = 0;
+        int octet = -1;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return INVALID;
+                }
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                ip = (ip << 8) | octet;
+                octets++;
+                octet = -1;
+            } else {
+                return INVALID;
+            }
+        }
+        if (octets != 3 || octet < 0) {
+            return INVALID;
+        }
+        return (ip << 8) | octet;
+    }
+
+    private static byte[] parseIpv6(String literal) {
+        // 16진수 / ':' / '.' 외의 문자가 있으면 IPv6 리터럴이 아님 ("evil.host:1", scope id "%eth0" 등)
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (Character.digit(c, 16) < 0 && c != ':' && c != '.') {
+                return null;
+            }
+        }
+        // '[...]' 로 감싸면 InetAddress 가 IPv6 리터럴로만 해석 (형식이 틀려도 DNS 조회로 넘어가지 않음)
+        try {
+            return InetAddress.getByName('[' + literal + ']').getAddress();
+        } catch (UnknownHostException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static int toInt(byte[] bytes) {
+        return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16)
+                | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+    }
+
+    private static int prefixLength(String cidr, int slash, int max) {
+        int prefixLength = slash < 0 ? max : Integer.parseInt(cidr.substring(slash + 1));
+        if (prefixLength < 0 || prefixLength > max) {
+            throw new IllegalArgumentException("Invalid trusted proxy prefix: " + cidr);
+        }
+        return prefixLength;
+    }
+
+    private record Cidr6(byte[] network, int prefixLength) {
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.shopmsa.gateway.upstream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import com.shopmsa.gateway.config.UpstreamHttpProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업스트림 커넥션 예열
+ *
+ * 시작 직후와 warmup.interval 마다 Route 업스트림 주소별로 가벼운 요청을 동시에 N 개 보내
+ * Gateway 커넥션 풀에 커넥션을 N 개 열어 둠. max-life-time 으로 커넥션이 교체되어도
+ * TCP 핸드셰이크가 실제 요청이 아닌 예열 요청에서 발생하므로 주기적인 지연 스파이크가 사라짐.
+ *
+ * Gateway HttpClient(같은 커넥션 풀)를 그대로 사용해야 의미가 있으므로 빈을 주입받아 사용.
+ * 풀 상태는 reactor.netty.connection.provider.* 메트릭 (remote.address = Route 업스트림 주소)
+ * - active / idle / pending.connections: 사용 중 / 대기 커넥션 수, 커넥션 획득 대기 요청 수
+ * - pending.connections.time: 커넥션 획득 시간
+ */
+@Slf4j
+@Component
+public class UpstreamConnectionWarmer {
+
+    private static final String METRIC = "gateway.upstream.warmup";
+
+    private final HttpClient httpClient;
+    private final RouteLocator routeLocator;
+    private final UpstreamHttpProperties.Warmup properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private Disposable warmupTask;
+
+    public UpstreamConnectionWarmer(HttpClient httpClient, RouteLocator routeLocator,
+                                    UpstreamHttpProperties properties, MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.routeLocator = routeLocator;
+        this.properties = properties.getWarmup();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!properties.isEnabled() || properties.getConnectionsPerRoute() <= 0) {
+            return;
+        }
+        // 이전 예열이 끝나지 않았으면 이번 주기는 건너뜀
+        warmupTask = Flux.interval(Duration.ZERO, properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> warmup()
+                        .onErrorResume(error -> {
+                            log.warn("Upstream warm-up failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+        log.info("Upstream connection warm-up started ({} connections per route, interval: {})",
+                properties.getConnectionsPerRoute(), properties.getInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (warmupTask != null) {
+            warmupTask.dispose();
+        }
+    }
+
+    /**
+     * Route 업스트림 주소별 예열 (같은 주소를 쓰는 Route 는 한 번만)
+     */
+    Mono<Void> warmup() {
+        return routeLocator.getRoutes()
+                .filter(route -> isHttp(route.getUri()))
+                .collectMap(route -> origin(route.getUri()), Route::getId, LinkedHashMap::new)
+                .flatMapMany(origins -> Flux.fromIterable(origins.entrySet()))
+                .flatMap(origin -> warmup(origin.getValue(), origin.getKey()))
+                .then();
+    }
+
+    /**
+     * 동시에 N 개 요청 → 풀에 유휴 커넥션이 부족하면 새 커넥션을 열고, 충분하면 기존 커넥션을 재사용
+     */
+    private Mono<Void> warmup(String routeId, String origin) {
+        String uri = origin + properties.getPath();
+        return Flux.range(0, properties.getConnectionsPerRoute())
+                .flatMap(i -> httpClient.get()
+                        .uri(uri)
+                        .responseSingle((response, body) -> body.then())
+                        .timeout(properties.getTimeout())
+                        .doOnSuccess(done -> counter(routeId, "success").increment())
+                        .onErrorResume(error -> {
+                            counter(routeId, "failure").increment();
+                            log.debug("Upstream warm-up request failed: {} ({})", uri, error.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    private Counter counter(String routeId, String result) {
+        return counters.computeIfAbsent(routeId + ':' + result, key -> Counter.builder(METRIC)
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private static boolean isHttp(URI uri) {
+        return "http".equals(uri.getScheme()) || "https".equals(uri.getScheme());
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,44 @@
+-- Token Bucket Rate Limiter
+-- 리필 / 소비 / TTL 설정을 한 번의 EVALSHA 로 원자적으로 처리
+--
+-- KEYS[1] : 버킷 키 (hash: tokens, ts)
+-- ARGV[1] : 버킷 용량 (capacity)
+-- ARGV[2] : 초당 리필 토큰 수 (refill rate)
+-- ARGV[3] : 이번 요청에서 소비할 토큰 수
+--
+-- 반환값 : { allowed(1|0), remaining, retryAfterMillis }
+
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local rate_per_ms = tonumber(ARGV[2]) / 1000
+local requested = tonumber(ARGV[3])
+
+-- 여러 Gateway Pod 간 시계 차이를 없애기 위해 Redis 서버 시간을 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local last = tonumber(bucket[2])
+if tokens == nil then
+  tokens = capacity
+  last = now
+end
+
+local elapsed = math.max(0, now - last)
+tokens = math.min(capacity, tokens + elapsed * rate_per_ms)
+
+local allowed = 0
+local retry_after = 0
+if tokens >= requested then
+  tokens = tokens - requested
+  allowed = 1
+else
+  retry_after = math.ceil((requested - tokens) / rate_per_ms)
+end
+
+redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+-- 버킷이 가득 찰 때까지의 시간이 지나면 키가 자동으로 사라짐 (TTL 없는 키가 남지 않음)
+redis.call('PEXPIRE', key, math.ceil(capacity / rate_per_ms))
+
+return { allowed, math.floor(tokens), retry_after }
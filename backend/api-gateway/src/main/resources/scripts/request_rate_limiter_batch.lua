@@ -0,0 +1,40 @@
+-- Token Bucket 일괄 동기화 (로컬 집계 모드)
+-- 각 Gateway Pod 가 로컬에서 소비한 토큰 수를 여러 버킷에 한 번에 반영하고
+-- 반영 후 남은 토큰 수(전역 값)를 돌려준다.
+--
+-- KEYS[i]      : 버킷 키 (hash: tokens, ts)
+-- ARGV[3i-2]   : 버킷 용량 (capacity)
+-- ARGV[3i-1]   : 초당 리필 토큰 수 (refill rate)
+-- ARGV[3i]     : 마지막 동기화 이후 로컬에서 소비한 토큰 수
+--
+-- 반환값 : { remaining_1, remaining_2, ... }
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local result = {}
+for i, key in ipairs(KEYS) do
+  local capacity = tonumber(ARGV[3 * i - 2])
+  local rate_per_ms = tonumber(ARGV[3 * i - 1]) / 1000
+  local consumed = tonumber(ARGV[3 * i])
+
+  local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+  local tokens = tonumber(bucket[1])
+  local last = tonumber(bucket[2])
+  if tokens == nil then
+    tokens = capacity
+    last = now
+  end
+
+  local elapsed = math.max(0, now - last)
+  tokens = math.min(capacity, tokens + elapsed * rate_per_ms)
+  -- 로컬에서 이미 허용한 요청은 되돌릴 수 없으므로 가능한 만큼만 차감
+  tokens = math.max(0, tokens - consumed)
+
+  redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+  redis.call('PEXPIRE', key, math.ceil(capacity / rate_per_ms))
+
+  result[i] = math.floor(tokens)
+end
+
+return result
@@ -0,0 +1,49 @@
+-- Token Bucket Rate Limiter (여러 요청 일괄 판정)
+-- 동시에 들어온 요청들의 판정을 한 번의 EVALSHA 로 처리 (요청별 판정은 request_rate_limiter.lua 와 같음)
+-- 같은 키가 여러 번 들어오면 앞 요청의 소비가 반영된 상태로 순서대로 판정
+--
+-- KEYS[i]      : 버킷 키 (hash: tokens, ts)
+-- ARGV[3i-2]   : 버킷 용량 (capacity)
+-- ARGV[3i-1]   : 초당 리필 토큰 수 (refill rate)
+-- ARGV[3i]     : 소비할 토큰 수
+--
+-- 반환값 : { allowed_1, remaining_1, retryAfterMillis_1, allowed_2, ... }
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local result = {}
+for i, key in ipairs(KEYS) do
+  local capacity = tonumber(ARGV[3 * i - 2])
+  local rate_per_ms = tonumber(ARGV[3 * i - 1]) / 1000
+  local requested = tonumber(ARGV[3 * i])
+
+  local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+  local tokens = tonumber(bucket[1])
+  local last = tonumber(bucket[2])
+  if tokens == nil then
+    tokens = capacity
+    last = now
+  end
+
+  local elapsed = math.max(0, now - last)
+  tokens = math.min(capacity, tokens + elapsed * rate_per_ms)
+
+  local allowed = 0
+  local retry_after = 0
+  if tokens >= requested then
+    tokens = tokens - requested
+    allowed = 1
+  else
+    retry_after = math.ceil((requested - tokens) / rate_per_ms)
+  end
+
+  redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+  redis.call('PEXPIRE', key, math.ceil(capacity / rate_per_ms))
+
+  result[3 * i - 2] = allowed
+  result[3 * i - 1] = math.floor(tokens)
+  result[3 * i] = retry_after
+end
+
+return result
@@ -0,0 +1,82 @@
+package com.shopmsa.gateway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.shopmsa.gateway.support.ClientIpResolver;
+import com.shopmsa.gateway.support.TrustedProxies;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client IP 추출 벤치마크
+ *
+ * legacy   : 기존 GlobalLoggingFilter / RateLimitingFilter 방식 (split(",") 을 요청당 두 번)
+ * resolver : RequestAttributesFilter 방식 (인덱스 스캔 한 번, Exchange Attribute 로 공유)
+ *
+ * 요청당 할당량은 GC 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *      org.openjdk.jmh.Main ClientIpExtractionBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientIpExtractionBenchmark {
+
+    @Param({
+            "203.0.113.7",
+            "203.0.113.7, 10.0.0.12",
+            "198.51.100.1, 203.0.113.7, 10.0.0.12, 10.0.3.4"
+    })
+    public String xForwardedFor;
+
+    private InetAddress ingress;
+    private TrustedProxies trustedProxies;
+
+    @Setup
+    public void setup() throws Exception {
+        ingress = InetAddress.getByName("10.0.0.2");
+        trustedProxies = TrustedProxies.of(List.of("127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16"));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        // 로깅 필터와 Rate Limit 필터가 각각 추출
+        blackhole.consume(legacyClientIp(xForwardedFor, null, ingress));
+        blackhole.consume(legacyClientIp(xForwardedFor, null, ingress));
+    }
+
+    @Benchmark
+    public void resolver(Blackhole blackhole) {
+        // 요청 속성 필터에서 한 번만 추출
+        blackhole.consume(ClientIpResolver.resolve(xForwardedFor, null, ingress, trustedProxies));
+    }
+
+    private static String legacyClientIp(String xForwardedFor, String xRealIp, InetAddress remote) {
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+        return remote != null ? remote.getHostAddress() : "unknown";
+    }
+}
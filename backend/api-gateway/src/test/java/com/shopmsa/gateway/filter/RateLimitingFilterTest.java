@@ -0,0 +1,111 @@
+package com.shopmsa.gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import com.shopmsa.gateway.config.RateLimitProperties;
+import com.shopmsa.gateway.config.RateLimitProperties.KeyType;
+import com.shopmsa.gateway.config.RateLimitProperties.Policy;
+import com.shopmsa.gateway.ratelimit.BucketSpec;
+import com.shopmsa.gateway.ratelimit.ClientRateLimiter;
+import com.shopmsa.gateway.ratelimit.QuotaPolicyTable;
+import com.shopmsa.gateway.ratelimit.RateLimitResult;
+import com.shopmsa.gateway.support.GatewayRequestAttributes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingFilterTest {
+
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private final CountingRateLimiter rateLimiter = new CountingRateLimiter();
+    private final RateLimitProperties properties = properties();
+    private final RateLimitingFilter filter =
+            new RateLimitingFilter(rateLimiter, properties, QuotaPolicyTable.compile(properties));
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    @Test
+    void principalKeyedPolicyAlsoConsumesIpBucket() {
+        MockServerWebExchange exchange = exchange("key-1");
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(rateLimiter.consumed).containsExactlyInAnyOrder("api:p:key-1", "default:ip:" + CLIENT_IP);
+        assertThat(forwarded).hasValue(1);
+    }
+
+    @Test
+    void rotatingPrincipalsCannotBypassIpBucket() {
+        // IP 기본 버킷 용량(2)을 넘으면 principal 값을 바꿔도 429
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(filter.filter(exchange("key-" + i), chain)).verifyComplete();
+        }
+        MockServerWebExchange exchange = exchange("key-3");
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(forwarded).hasValue(2);
+    }
+
+    @Test
+    void requestWithoutPrincipalConsumesOnlyIpBucket() {
+        StepVerifier.create(filter.filter(exchange(null), chain)).verifyComplete();
+
+        assertThat(rateLimiter.consumed).containsExactly("api:ip:" + CLIENT_IP);
+    }
+
+    private MockServerWebExchange exchange(String principal) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/orders");
+        if (principal != null) {
+            request.header(properties.getPrincipalHeader(), principal);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GatewayRequestAttributes.CLIENT_IP_ATTR, CLIENT_IP);
+        return exchange;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(2);
+        Policy policy = new Policy();
+        policy.setId("api");
+        policy.setKeyType(KeyType.PRINCIPAL);
+        policy.setCapacity(10);
+        properties.setPolicies(List.of(policy));
+        return properties;
+    }
+
+    /**
+     * 버킷별 소비 횟수만 세는 Rate Limiter (리필 없음)
+     */
+    private static final class CountingRateLimiter implements ClientRateLimiter {
+
+        private final List<String> consumed = new CopyOnWriteArrayList<>();
+        private final Map<String, Long> used = new HashMap<>();
+
+        @Override
+        public synchronized Mono<RateLimitResult> tryConsume(String id, BucketSpec bucket) {
+            consumed.add(id);
+            long count = used.merge(id, 1L, Long::sum);
+            boolean allowed = count <= bucket.capacity();
+            long remaining = Math.max(0, bucket.capacity() - count);
+            return Mono.just(new RateLimitResult(allowed, bucket.capacity(), remaining, allowed ? 0 : 1000));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.shopmsa.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.shopmsa.gateway.config.RateLimitProperties;
+import com.shopmsa.gateway.config.RateLimitProperties.KeyType;
+import com.shopmsa.gateway.config.RateLimitProperties.Policy;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuotaPolicyTableTest {
+
+    private final QuotaPolicyTable table = QuotaPolicyTable.compile(properties(
+            policy("orders-post", "order-service", List.of("POST"), null),
+            policy("orders", "order-service", List.of(), null),
+            policy("writes", null, List.of("POST", "PUT"), null),
+            policy("partner", null, List.of(), "partner-key"),
+            policy("partner-orders-post", "order-service", List.of("POST"), "partner-key")));
+
+    @Test
+    void fallsBackToDefaultPolicy() {
+        QuotaPolicy policy = table.resolve("product-service", HttpMethod.GET, null);
+
+        assertThat(policy.id()).isEqualTo("default");
+        assertThat(policy.keyType()).isEqualTo(KeyType.IP);
+        assertThat(policy).isSameAs(table.defaultPolicy());
+        assertThat(table.resolve(null, HttpMethod.GET, null)).isSameAs(table.defaultPolicy());
+    }
+
+    @Test
+    void routePolicyWinsOverMethodPolicy() {
+        assertThat(table.resolve("order-service", HttpMethod.PUT, null).id()).isEqualTo("orders");
+        assertThat(table.resolve("product-service", HttpMethod.PUT, null).id()).isEqualTo("writes");
+    }
+
+    @Test
+    void routeAndMethodPolicyWinsOverRoutePolicy() {
+        assertThat(table.resolve("order-service", HttpMethod.POST, null).id()).isEqualTo("orders-post");
+        assertThat(table.resolve("order-service", HttpMethod.GET, null).id()).isEqualTo("orders");
+    }
+
+    @Test
+    void principalPolicyWinsOverRouteAndMethodPolicy() {
+        assertThat(table.resolve("order-service", HttpMethod.PUT, "partner-key").id()).isEqualTo("partner");
+        assertThat(table.resolve("product-service", HttpMethod.POST, "partner-key").id()).isEqualTo("partner");
+        assertThat(table.resolve("order-service", HttpMethod.POST, "partner-key").id())
+                .isEqualTo("partner-orders-post");
+    }
+
+    @Test
+    void unknownPrincipalUsesGenericPolicies() {
+        assertThat(table.resolve("order-service", HttpMethod.POST, "other-key").id()).isEqualTo("orders-post");
+        assertThat(table.resolve("product-service", HttpMethod.GET, "other-key").id()).isEqualTo("default");
+    }
+
+    @Test
+    void rejectsDuplicateAndMissingIds() {
+        assertThatThrownBy(() -> QuotaPolicyTable.compile(properties(
+                policy("dup", null, List.of(), null), policy("dup", null, List.of(), null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuotaPolicyTable.compile(properties(policy("default", null, List.of(), null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuotaPolicyTable.compile(properties(policy(" ", null, List.of(), null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RateLimitProperties properties(Policy... policies) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policies));
+        return properties;
+    }
+
+    private static Policy policy(String id, String routeId, List<String> methods, String principal) {
+        Policy policy = new Policy();
+        policy.setId(id);
+        policy.setRouteId(routeId);
+        policy.setMethods(methods);
+        policy.setPrincipal(principal);
+        return policy;
+    }
+}
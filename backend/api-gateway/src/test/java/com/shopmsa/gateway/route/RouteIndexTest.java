@@ -0,0 +1,102 @@
+package com.shopmsa.gateway.route;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteIndexTest {
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, RouteDefinition> definitions = new HashMap<>();
+
+    @Test
+    void keepsRouteOrderAndIncludesUnindexedRoutes() {
+        addRoute("orders", path("Path=/api/orders/**"));
+        // 정의를 알 수 없는 Route (Java DSL 등)
+        routes.add(route("java-dsl"));
+        addRoute("order-items", path("Path=/api/orders/{id}/items"));
+        addRoute("products", path("Path=/api/products/**"));
+        // Path Predicate 가 없는 Route
+        addRoute("host-only", new PredicateDefinition("Host=**.example.com"));
+        RouteIndex index = RouteIndex.build(routes, definitions);
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(candidateIds(index, "/api/orders/1/items"))
+                .containsExactly("orders", "java-dsl", "order-items", "host-only");
+        assertThat(candidateIds(index, "/api/products/1"))
+                .containsExactly("java-dsl", "products", "host-only");
+        assertThat(candidateIds(index, "/other"))
+                .containsExactly("java-dsl", "host-only");
+    }
+
+    @Test
+    void indexesOnlySegmentsBeforeWildcardOrVariable() {
+        addRoute("catch-all", path("Path=/**"));
+        addRoute("versioned", path("Path=/{version}/health"));
+        addRoute("order-detail", path("Path=/api/orders/{id}"));
+        addRoute("order-search", path("Path=/api/orders/search*"));
+        RouteIndex index = RouteIndex.build(routes, definitions);
+
+        assertThat(candidateIds(index, "/api/orders/42"))
+                .containsExactly("catch-all", "versioned", "order-detail", "order-search");
+        assertThat(candidateIds(index, "/v1/health"))
+                .containsExactly("catch-all", "versioned");
+        assertThat(candidateIds(index, "/"))
+                .containsExactly("catch-all", "versioned");
+    }
+
+    @Test
+    void registersEveryPatternOfMultiPatternPathPredicate() {
+        addRoute("users", path("Path=/api/users/**"));
+        // shortcut 형식 (Path=a,b) - 패턴마다 _genkey_N 인자
+        addRoute("catalog", path("Path=/api/products/**,/api/categories/**"));
+        // 전체 형식 (args.patterns) - 쉼표로 이어진 값
+        PredicateDefinition patterns = new PredicateDefinition();
+        patterns.setName("Path");
+        patterns.addArg("patterns", "/api/members/**,/api/users/{id}/profile");
+        addRoute("members", patterns);
+        // 같은 접두사에 패턴이 두 번 등록돼도 후보에는 한 번만
+        addRoute("users-twice", path("Path=/api/users/{id},/api/users/**"));
+        RouteIndex index = RouteIndex.build(routes, definitions);
+
+        assertThat(candidateIds(index, "/api/products/1")).containsExactly("catalog");
+        assertThat(candidateIds(index, "/api/categories")).containsExactly("catalog");
+        assertThat(candidateIds(index, "/api/members/7")).containsExactly("members");
+        assertThat(candidateIds(index, "/api/users/7/profile"))
+                .containsExactly("users", "members", "users-twice");
+        assertThat(candidateIds(index, "/api")).isEmpty();
+    }
+
+    private void addRoute(String id, PredicateDefinition predicate) {
+        routes.add(route(id));
+        RouteDefinition definition = new RouteDefinition();
+        definition.setId(id);
+        definition.setPredicates(List.of(predicate));
+        definitions.put(id, definition);
+    }
+
+    private static PredicateDefinition path(String shortcut) {
+        return new PredicateDefinition(shortcut);
+    }
+
+    private static Route route(String id) {
+        return Route.async()
+                .id(id)
+                .uri("http://localhost:8080")
+                .predicate(exchange -> true)
+                .build();
+    }
+
+    private static List<String> candidateIds(RouteIndex index, String path) {
+        return index.candidates(PathContainer.parsePath(path)).stream().map(Route::getId).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.shopmsa.gateway.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrustedProxiesTest {
+
+    private final TrustedProxies proxies = TrustedProxies.of(List.of("10.0.0.0/8", "192.168.1.10", "fd00::/8"));
+
+    @Test
+    void matchesIpv4Cidr() {
+        assertThat(proxies.isTrusted("10.0.0.1")).isTrue();
+        assertThat(proxies.isTrusted("10.255.255.255")).isTrue();
+        assertThat(proxies.isTrusted("11.0.0.1")).isFalse();
+        assertThat(proxies.isTrusted("9.255.255.255")).isFalse();
+    }
+
+    @Test
+    void treatsAddressWithoutPrefixAsSingleHost() {
+        assertThat(proxies.isTrusted("192.168.1.10")).isTrue();
+        assertThat(proxies.isTrusted("192.168.1.11")).isFalse();
+    }
+
+    @Test
+    void matchesIpv6Cidr() {
+        assertThat(proxies.isTrusted("fd12::1")).isTrue();
+        assertThat(proxies.isTrusted("fe80::1")).isFalse();
+    }
+
+    @Test
+    void matchesIpv4MappedIpv6AgainstIpv4Ranges() {
+        assertThat(proxies.isTrusted("::ffff:10.1.2.3")).isTrue();
+    }
+
+    @Test
+    void matchesInetAddress() throws Exception {
+        assertThat(proxies.isTrusted(InetAddress.getByName("10.1.2.3"))).isTrue();
+        assertThat(proxies.isTrusted(InetAddress.getByName("172.16.0.1"))).isFalse();
+        assertThat(proxies.isTrusted((InetAddress) null)).isFalse();
+    }
+
+    @Test
+    void checksSubstringOfForwardedHeader() {
+        String xForwardedFor = "203.0.113.7, 10.0.0.12";
+        int start = xForwardedFor.indexOf("10.");
+
+        assertThat(proxies.isTrusted(xForwardedFor, start, xForwardedFor.length())).isTrue();
+        assertThat(proxies.isTrusted(xForwardedFor, 0, xForwardedFor.indexOf(','))).isFalse();
+    }
+
+    @Test
+    void rejectsHostNamesWithoutDnsLookup() {
+        // 모든 주소를 신뢰하는 대역이라도 호스트 이름은 IP 로 해석하지 않으므로 신뢰하지 않음
+        TrustedProxies any = TrustedProxies.of(List.of("0.0.0.0/0", "::/0"));
+
+        assertThat(any.isTrusted("evil.host:1")).isFalse();
+        assertThat(any.isTrusted("evil.host")).isFalse();
+        assertThat(any.isTrusted("localhost")).isFalse();
+        assertThat(any.isTrusted("fe80::1%eth0")).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedIpv4() {
+        assertThat(proxies.isTrusted("10.0.0")).isFalse();
+        assertThat(proxies.isTrusted("10.0.0.256")).isFalse();
+        assertThat(proxies.isTrusted("10..0.1")).isFalse();
+        assertThat(proxies.isTrusted("")).isFalse();
+        assertThat(proxies.isTrusted((String) null)).isFalse();
+    }
+
+    @Test
+    void parsesIpv4AsUnsignedValue() {
+        assertThat(TrustedProxies.parseIpv4("255.255.255.255", 0, 15)).isEqualTo(0xFFFFFFFFL);
+        assertThat(TrustedProxies.parseIpv4("1.2.3.4", 0, 7)).isEqualTo(0x01020304L);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> TrustedProxies.of(List.of("proxy.internal")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TrustedProxies.of(List.of("10.0.0.0/33")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
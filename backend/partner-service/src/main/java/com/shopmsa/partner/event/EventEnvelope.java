@@ -0,0 +1,34 @@
+package com.shopmsa.partner.event;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서비스 공통 이벤트 Envelope
+ * Kafka 메시지 키는 aggregateId (같은 집계의 이벤트는 같은 파티션 → 집계 단위 순서 보장)
+ *
+ * @param type        이벤트 종류 (예: PAYMENT_COMPLETED)
+ * @param aggregateId 이벤트 대상 ID
+ * @param version     payload 스키마 버전 (같은 type 의 payload 구성이 바뀌면 올림)
+ * @param timestamp   이벤트 발생 시각 (ms 정밀도로 전송)
+ * @param payload     이벤트별 추가 속성
+ */
+public record EventEnvelope(String type, String aggregateId, int version, Instant timestamp,
+        Map<String, String> payload) {
+
+    public static final int INITIAL_VERSION = 1;
+
+    public EventEnvelope {
+        payload = Collections.unmodifiableMap(new LinkedHashMap<>(payload));
+    }
+
+    public static EventEnvelope of(String type, Object aggregateId) {
+        return of(type, aggregateId, Map.of());
+    }
+
+    public static EventEnvelope of(String type, Object aggregateId, Map<String, String> payload) {
+        return new EventEnvelope(type, String.valueOf(aggregateId), INITIAL_VERSION, Instant.now(), payload);
+    }
+}
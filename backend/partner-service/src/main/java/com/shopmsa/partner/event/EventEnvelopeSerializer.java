@@ -0,0 +1,14 @@
+package com.shopmsa.partner.event;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value Serializer (EventEnvelopeCodec 형식)
+ */
+public class EventEnvelopeSerializer implements Serializer<EventEnvelope> {
+
+    @Override
+    public byte[] serialize(String topic, EventEnvelope data) {
+        return data == null ? null : EventEnvelopeCodec.encode(data);
+    }
+}
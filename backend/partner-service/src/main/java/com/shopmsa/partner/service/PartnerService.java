@@ -12,8 +12,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.shopmsa.partner.dto.PartnerRequest;
 import com.shopmsa.partner.dto.PartnerResponse;
 import com.shopmsa.partner.entity.Partner;
+import com.shopmsa.partner.event.EventEnvelope;
 import com.shopmsa.partner.exception.PartnerNotFoundException;
 import com.shopmsa.partner.repository.PartnerRepository;
+import com.shopmsa.partner.support.GatewayCacheInvalidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +25,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Transactional(readOnly = true)
 public class PartnerService {
+    private static final String EVENTS_TOPIC = "partner-events";
+
     private final PartnerRepository partnerRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
+    private final GatewayCacheInvalidator gatewayCacheInvalidator;
     
     @Transactional
     @CacheEvict(value = "partners", allEntries = true)
@@ -52,7 +57,7 @@ public class PartnerService {
         
         Partner saved = partnerRepository.save(partner);
         
-        kafkaTemplate.send("partner-events", "PARTNER_CREATED:" + saved.getId());
+        publishEvent(EventEnvelope.of("PARTNER_CREATED", saved.getId()));
         
         return PartnerResponse.from(saved);
     }
@@ -105,6 +110,8 @@ public class PartnerService {
             throw new IllegalArgumentException("Email already exists");
         }
         
+        // 사업자번호가 바뀌면 이전 번호의 조회 경로도 무효화
+        String previousBusinessNumber = partner.getBusinessNumber();
         partner.setBusinessNumber(request.getBusinessNumber());
         partner.setCompanyName(request.getCompanyName());
         partner.setRepresentativeName(request.getRepresentativeName());
@@ -115,7 +122,11 @@ public class PartnerService {
         
         Partner updated = partnerRepository.save(partner);
         
-        kafkaTemplate.send("partner-events", "PARTNER_UPDATED:" + updated.getId());
+        publishEvent(EventEnvelope.of("PARTNER_UPDATED", updated.getId()));
+        invalidateGatewayCache(updated);
+        if (!previousBusinessNumber.equals(updated.getBusinessNumber())) {
+            gatewayCacheInvalidator.invalidate("/api/partners/business/" + previousBusinessNumber);
+        }
         
         return PartnerResponse.from(updated);
     }
@@ -129,7 +140,8 @@ public class PartnerService {
         partner.setStatus(Partner.PartnerStatus.ACTIVE);
         Partner updated = partnerRepository.save(partner);
         
-        kafkaTemplate.send("partner-events", "PARTNER_ACTIVATED:" + updated.getId());
+        publishEvent(EventEnvelope.of("PARTNER_ACTIVATED", updated.getId()));
+        invalidateGatewayCache(updated);
         
         return PartnerResponse.from(updated);
     }
@@ -143,7 +155,8 @@ public class PartnerService {
         partner.setStatus(Partner.PartnerStatus.SUSPENDED);
         Partner updated = partnerRepository.save(partner);
         
-        kafkaTemplate.send("partner-events", "PARTNER_SUSPENDED:" + updated.getId());
+        publishEvent(EventEnvelope.of("PARTNER_SUSPENDED", updated.getId()));
+        invalidateGatewayCache(updated);
         
         return PartnerResponse.from(updated);
     }
@@ -157,6 +170,23 @@ public class PartnerService {
         partner.setStatus(Partner.PartnerStatus.TERMINATED);
         partnerRepository.save(partner);
         
-        kafkaTemplate.send("partner-events", "PARTNER_TERMINATED:" + id);
+        publishEvent(EventEnvelope.of("PARTNER_TERMINATED", id));
+        invalidateGatewayCache(partner);
+    }
+
+    /**
+     * Gateway 응답 캐시 무효화 (ID / 사업자번호 조회 경로)
+     */
+    private void invalidateGatewayCache(Partner partner) {
+        gatewayCacheInvalidator.invalidate(
+                "/api/partners/" + partner.getId(),
+                "/api/partners/business/" + partner.getBusinessNumber());
+    }
+
+    /**
+     * 이벤트 발행 (집계 ID 를 메시지 키로 사용 - 같은 집계의 이벤트는 같은 파티션에서 순서 유지)
+     */
+    private void publishEvent(EventEnvelope event) {
+        kafkaTemplate.send(EVENTS_TOPIC, event.aggregateId(), event);
     }
 }
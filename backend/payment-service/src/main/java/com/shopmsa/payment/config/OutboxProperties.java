@@ -0,0 +1,26 @@
+package com.shopmsa.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Outbox Relay 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxProperties {
+
+    // 발행 대기 이벤트 조회 주기 (배치가 가득 차 있으면 기다리지 않고 바로 다음 배치 처리)
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    // 한 번에 잠그고 발행하는 이벤트 수
+    private int batchSize = 500;
+
+    // 배치 전체의 Kafka 전송 확인 대기 시간 (초과분은 다음 주기에 재발행)
+    private Duration sendTimeout = Duration.ofSeconds(10);
+}
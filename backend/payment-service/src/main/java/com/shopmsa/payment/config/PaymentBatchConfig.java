@@ -0,0 +1,12 @@
+package com.shopmsa.payment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결제 일괄 등록 설정
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentBatchProperties.class)
+public class PaymentBatchConfig {
+}
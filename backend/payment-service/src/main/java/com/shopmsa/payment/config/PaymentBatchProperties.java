@@ -0,0 +1,21 @@
+package com.shopmsa.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 결제 일괄 등록 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.batch")
+public class PaymentBatchProperties {
+
+    // 요청 하나에 담을 수 있는 최대 결제 수
+    private int maxItems = 10000;
+
+    // 한 트랜잭션에서 저장하는 결제 수 (청크 단위로 커밋 - 실패 시 해당 청크만 실패)
+    private int chunkSize = 500;
+}
@@ -1,11 +1,16 @@
 package com.shopmsa.payment.config;
 
 import java.time.Duration;
+import java.util.Set;
 
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -14,9 +19,18 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration
 @EnableCaching
 public class RedisConfig {
+    // 결제 ID → 결제
+    public static final String PAYMENTS_CACHE = "payments";
+
+    // 거래 ID → 결제
+    public static final String PAYMENTS_BY_TRANSACTION_CACHE = "paymentsByTransaction";
+
     /**
      * RedisTemplate 설정
      */
@@ -39,6 +53,8 @@ public class RedisConfig {
     
     /**
      * CacheManager 설정
+     * - 캐시 쓰기 / 삭제는 트랜잭션 커밋 후 반영 (롤백된 변경이 캐시에 남지 않음)
+     * - 캐시를 시작 시점에 만들어 두어 캐시별 메트릭(cache.gets 등)이 바로 등록되도록 함
      */
     @Bean
     CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
@@ -54,6 +70,33 @@ public class RedisConfig {
         
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
+                .initialCacheNames(Set.of(PAYMENTS_CACHE, PAYMENTS_BY_TRANSACTION_CACHE))
+                .enableStatistics()
+                .transactionAware()
                 .build();
     }
+
+    /**
+     * 캐시별 적중률 (cache.hit.ratio{cache}) - 시작 이후 누적 조회 기준
+     */
+    @Bean
+    MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof RedisCache redisCache) {
+                Gauge.builder("cache.hit.ratio", redisCache, RedisConfig::hitRatio)
+                        .tag("cache", name)
+                        .register(registry);
+            }
+        });
+    }
+
+    private static double hitRatio(RedisCache cache) {
+        CacheStatistics statistics = cache.getStatistics();
+        long retrievals = statistics.getRetrievals();
+        return retrievals == 0 ? 0 : (double) statistics.getHits() / retrievals;
+    }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +12,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.shopmsa.payment.dto.PaymentBatchRequest;
+import com.shopmsa.payment.dto.PaymentBatchResponse;
+import com.shopmsa.payment.dto.PaymentPageResponse;
 import com.shopmsa.payment.dto.PaymentRequest;
 import com.shopmsa.payment.dto.PaymentResponse;
+import com.shopmsa.payment.dto.PaymentSearchCondition;
+import com.shopmsa.payment.service.PaymentBatchService;
 import com.shopmsa.payment.service.PaymentService;
 
 import jakarta.validation.Valid;
@@ -27,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PaymentController {
     private final PaymentService paymentService;
+    private final PaymentBatchService paymentBatchService;
     
     /**
      * 결제 생성
@@ -39,6 +48,17 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * 결제 일괄 생성 (항목별 결과를 요청 순서대로 응답)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PaymentBatchResponse> createPayments(
+            @Valid @RequestBody PaymentBatchRequest request) {
+        log.info("POST /api/payments/batch - Creating {} payments", request.getPayments().size());
+        PaymentBatchResponse response = paymentBatchService.createPayments(request.getPayments());
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 결제 ID로 조회
      */
@@ -83,14 +103,30 @@ public class PaymentController {
     }
     
     /**
-     * 전체 결제 조회
+     * 결제 목록 조회 (최신순, 커서 기반 페이지네이션)
+     * 상태 / 사용자 / 주문 / 생성 시각 범위(from ~ to) 조건은 선택
      */
     @GetMapping
-    public ResponseEntity<List<PaymentResponse>> getAllPayments() {
-        log.info("GET /api/payments - Getting all payments");
-        List<PaymentResponse> response = paymentService.getAllPayments();
+    public ResponseEntity<PaymentPageResponse> searchPayments(
+            PaymentSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + PaymentService.DEFAULT_PAGE_SIZE) int size) {
+        log.info("GET /api/payments - Searching payments (cursor: {}, size: {})", cursor, size);
+        PaymentPageResponse response = paymentService.searchPayments(condition, cursor, size);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 결제 내보내기 (NDJSON 스트리밍, 목록 조회와 같은 조건)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPayments(PaymentSearchCondition condition) {
+        log.info("GET /api/payments/export - Exporting payments");
+        StreamingResponseBody body = out -> paymentService.exportPayments(condition, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
     
     /**
      * 결제 완료 처리
@@ -0,0 +1,23 @@
+package com.shopmsa.payment.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 일괄 등록 요청
+ * 항목별 검증은 일괄 등록 시 수행하고 실패 항목만 결과에 표시 (나머지 항목은 계속 처리)
+ * 항목마다 externalId 가 필수 (같은 요청을 다시 보내도 이미 생성된 항목은 EXISTING 으로 응답)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentBatchRequest {
+    @NotEmpty(message = "Payments are required")
+    private List<PaymentRequest> payments;
+}
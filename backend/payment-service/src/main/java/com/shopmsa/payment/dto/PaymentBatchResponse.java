@@ -0,0 +1,46 @@
+package com.shopmsa.payment.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 일괄 등록 결과 (results 는 요청 순서와 같음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentBatchResponse {
+    private int total;
+    // 생성 + 이미 존재
+    private int succeeded;
+    // 같은 externalId 로 이전에 생성된 항목 수
+    private int existing;
+    private int failed;
+    private List<ItemResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+        // 요청 목록에서의 위치 (0부터)
+        private int index;
+        private Outcome outcome;
+        private Long paymentId;
+        private String transactionId;
+        private String error;
+    }
+
+    public enum Outcome {
+        // 새로 생성
+        CREATED,
+        // 같은 externalId 의 결제가 이미 있음 (paymentId / transactionId 는 기존 결제)
+        EXISTING,
+        FAILED
+    }
+}
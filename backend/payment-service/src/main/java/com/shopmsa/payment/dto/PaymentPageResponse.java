@@ -0,0 +1,21 @@
+package com.shopmsa.payment.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 목록 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentPageResponse {
+    private List<PaymentResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
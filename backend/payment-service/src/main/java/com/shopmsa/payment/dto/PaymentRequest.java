@@ -6,6 +6,7 @@ import com.shopmsa.payment.entity.Payment;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,4 +31,8 @@ public class PaymentRequest {
     private Payment.PaymentMethod paymentMethod;
     
     private String description;
+    
+    // 요청 측 참조 ID (있으면 같은 ID 의 결제는 한 번만 생성, 일괄 등록에서는 필수)
+    @Size(max = 100, message = "External ID must be at most 100 characters")
+    private String externalId;
 }
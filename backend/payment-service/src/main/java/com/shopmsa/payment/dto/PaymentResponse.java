@@ -22,6 +22,7 @@ public class PaymentResponse {
     private Payment.PaymentMethod paymentMethod;
     private Payment.PaymentStatus status;
     private String transactionId;
+    private String externalId;
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -35,6 +36,7 @@ public class PaymentResponse {
                 .paymentMethod(payment.getPaymentMethod())
                 .status(payment.getStatus())
                 .transactionId(payment.getTransactionId())
+                .externalId(payment.getExternalId())
                 .description(payment.getDescription())
                 .createdAt(payment.getCreatedAt())
                 .updatedAt(payment.getUpdatedAt())
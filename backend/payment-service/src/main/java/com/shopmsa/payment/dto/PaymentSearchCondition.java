@@ -0,0 +1,34 @@
+package com.shopmsa.payment.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.shopmsa.payment.entity.Payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 목록 조회 / 내보내기 조건 (비어 있는 조건은 적용하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentSearchCondition {
+    private Payment.PaymentStatus status;
+
+    private Long userId;
+
+    private Long orderId;
+
+    // 생성 시각 범위 [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
@@ -0,0 +1,56 @@
+package com.shopmsa.payment.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 발행 대기 이벤트 (Transactional Outbox)
+ * 결제 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 Kafka 로 발행한 뒤 삭제
+ */
+@Entity
+@Table(name = "payment_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+
+    // Relay 가 id 순서를 저장 순서로 사용하므로 Pod 별 ID 블록 선할당(allocationSize > 1)을 쓰지 않음
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_outbox_seq")
+    @SequenceGenerator(name = "payment_outbox_seq", sequenceName = "payment_outbox_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    // Kafka 메시지 키 (집계 ID - 같은 결제의 이벤트는 같은 파티션)
+    @Column(length = 100)
+    private String messageKey;
+
+    // EventEnvelopeCodec 으로 인코딩한 메시지 (Relay 가 그대로 전송)
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
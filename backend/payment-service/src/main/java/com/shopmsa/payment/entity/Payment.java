@@ -15,6 +15,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +25,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // 목록 Keyset 페이지네이션 (created_at, id 내림차순)
+        @Index(name = "idx_payments_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,7 +38,10 @@ import lombok.Setter;
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스를 allocationSize 단위로 미리 받아(pooled) INSERT 를 JDBC 배치로 묶을 수 있도록 함 (IDENTITY 는 배치 불가)
+    // 기존 DB 는 배포 전 payments_seq 생성 필요 (POSTGRESQL_GUIDE.md "paymentdb 스키마 변경")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq")
+    @SequenceGenerator(name = "payment_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -57,6 +65,10 @@ public class Payment {
     @Column(unique = true, length = 100)
     private String transactionId;
     
+    // 요청 측 참조 ID (정산 파일 행 ID 등) - 같은 요청을 다시 보내도 결제가 중복 생성되지 않도록 고유
+    @Column(unique = true, length = 100)
+    private String externalId;
+    
     @Column(length = 500)
     private String description;
     
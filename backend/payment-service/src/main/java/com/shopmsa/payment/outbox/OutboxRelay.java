@@ -0,0 +1,204 @@
+package com.shopmsa.payment.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shopmsa.payment.config.OutboxProperties;
+import com.shopmsa.payment.entity.OutboxEvent;
+import com.shopmsa.payment.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox Relay
+ *
+ * pollInterval 마다 발행 대기 이벤트를 batchSize 개씩 id 순으로 읽어 Kafka 로 보내고(producer 배칭 / 압축)
+ * 전송이 확인된 이벤트를 삭제.
+ *
+ * 같은 집계(메시지 키)의 이벤트는 저장 순서대로 발행
+ * - Advisory Lock 으로 한 번에 한 Pod 만 relay (다른 Pod 는 해당 주기를 건너뜀)
+ * - 배치를 "키별 k 번째 이벤트" 묶음으로 나눠, 앞 묶음의 전송이 모두 확인된 뒤 다음 묶음을 보냄
+ * - 전송이 실패하면 이후 묶음은 보내지 않고 다음 주기에 실패한 이벤트부터 다시 발행
+ *   (at-least-once - 소비자는 중복을 허용해야 하지만 같은 키의 순서는 뒤바뀌지 않음)
+ *
+ * 메트릭
+ * - payment.outbox.lag: 마지막 조회 시점의 가장 오래된 발행 대기 이벤트 나이 (초)
+ * - payment.outbox.published / payment.outbox.failures: 발행된 이벤트 수 / 실패한 배치 수
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // pg_try_advisory_xact_lock 키 (relay 트랜잭션이 끝나면 자동 해제)
+    private static final long RELAY_LOCK_KEY = "payment_outbox_relay".hashCode();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+
+    // 마지막 조회에서 본 가장 오래된 이벤트 생성 시각 (대기 이벤트가 없으면 null)
+    private volatile LocalDateTime oldestPending;
+
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.published = Counter.builder("payment.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("payment.outbox.failures").register(meterRegistry);
+        Gauge.builder("payment.outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::relay, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Outbox relay started (poll interval: {}, batch size: {})",
+                properties.getPollInterval(), properties.getBatchSize());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 배치가 가득 차 있는 동안 연속으로 발행
+     */
+    void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            // 스케줄이 중단되지 않도록 예외를 삼키고 다음 주기에 재시도
+            failures.increment();
+            log.warn("Outbox relay failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 발행 후 삭제한 이벤트 수
+     */
+    private int relayBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            // 다른 Pod 가 relay 중 (lag 는 relay 하는 Pod 에서만 보고)
+            oldestPending = null;
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findNextBatch(properties.getBatchSize());
+        if (batch.isEmpty()) {
+            oldestPending = null;
+            return 0;
+        }
+        oldestPending = batch.get(0).getCreatedAt();
+
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        List<Long> sent = new ArrayList<>(batch.size());
+        for (List<OutboxEvent> wave : waves(batch)) {
+            if (!sendWave(wave, sent, deadline)) {
+                break;
+            }
+        }
+
+        outboxEventRepository.deleteAllByIdInBatch(sent);
+        published.increment(sent.size());
+        return sent.size();
+    }
+
+    /**
+     * 묶음을 한꺼번에 보내고 전송이 확인된 이벤트 ID 를 sent 에 추가
+     *
+     * @return 묶음 전체의 전송이 확인되었는지 여부 (아니면 다음 묶음을 보내지 않음)
+     */
+    private boolean sendWave(List<OutboxEvent> wave, List<Long> sent, long deadline) {
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(wave.size());
+        for (OutboxEvent event : wave) {
+            sends.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+        }
+
+        int failed = 0;
+        for (int i = 0; i < wave.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent.add(wave.get(i).getId());
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failed++ == 0) {
+                    log.warn("Outbox publish failed at event {}: {}", wave.get(i).getId(), e.getMessage());
+                }
+            }
+        }
+        if (failed > 0) {
+            failures.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 배치를 키별 순번으로 묶음 (k 번째 묶음 = 각 메시지 키의 k 번째 이벤트)
+     * 키가 없는 이벤트는 순서 제약이 없으므로 첫 묶음에 포함
+     */
+    private static List<List<OutboxEvent>> waves(List<OutboxEvent> batch) {
+        Map<String, Integer> counts = new HashMap<>();
+        List<List<OutboxEvent>> waves = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            int index = event.getMessageKey() == null
+                    ? 0
+                    : counts.merge(event.getMessageKey(), 1, Integer::sum) - 1;
+            if (index == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(index).add(event);
+        }
+        return waves;
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.shopmsa.payment.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shopmsa.payment.entity.OutboxEvent;
+import com.shopmsa.payment.event.EventEnvelope;
+import com.shopmsa.payment.event.EventEnvelopeCodec;
+import com.shopmsa.payment.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트를 Outbox 테이블에 저장
+ * 호출한 트랜잭션과 함께 커밋 / 롤백되므로 롤백된 변경의 이벤트가 발행되지 않고,
+ * 요청 스레드가 Kafka 지연(메타데이터 조회 / 버퍼 대기)에 묶이지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 집계 ID 를 메시지 키로 저장 (같은 결제의 이벤트는 같은 파티션)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, EventEnvelope event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(event.aggregateId())
+                .payload(EventEnvelopeCodec.encode(event))
+                .build());
+    }
+}
@@ -0,0 +1,28 @@
+package com.shopmsa.payment.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.shopmsa.payment.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * 발행 대기 이벤트를 저장 순으로 조회
+     * relay 는 {@link #tryRelayLock} 을 잡은 Pod 하나만 수행하므로 행 잠금은 필요 없음
+     */
+    @Query(value = "SELECT * FROM payment_outbox ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<OutboxEvent> findNextBatch(@Param("limit") int limit);
+
+    /**
+     * relay 권한 획득 (트랜잭션 단위 Advisory Lock - 커밋 / 롤백 시 자동 해제)
+     *
+     * @return 다른 Pod 가 이미 잡고 있으면 false (기다리지 않음)
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+}
@@ -1,20 +1,53 @@
 package com.shopmsa.payment.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shopmsa.payment.entity.Payment;
 
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long>{
+public interface PaymentRepository extends JpaRepository<Payment, Long>,
+        JpaSpecificationExecutor<Payment>, PaymentStreamRepository {
     Optional<Payment> findByTransactionId(String transactionId);
     
+    Optional<Payment> findByExternalId(String externalId);
+    
+    List<Payment> findByExternalIdIn(Collection<String> externalIds);
+    
     List<Payment> findByUserId(Long userId);
     
     List<Payment> findByOrderId(Long orderId);
     
     List<Payment> findByStatus(Payment.PaymentStatus status);
+    
+    /**
+     * 현재 상태가 sources 중 하나일 때만 target 으로 변경하고 변경된 행을 반환 (조건이 맞지 않으면 empty)
+     * note 가 있으면 설명 끝에 " | " 로 덧붙임 (컬럼 길이 500 으로 자름)
+     */
+    @Query(value = """
+            UPDATE payments
+               SET status = :target,
+                   description = CASE
+                       WHEN CAST(:note AS text) IS NULL THEN description
+                       WHEN description IS NULL THEN LEFT(CAST(:note AS text), 500)
+                       ELSE LEFT(description || ' | ' || CAST(:note AS text), 500)
+                   END,
+                   updated_at = :now
+             WHERE id = :id
+               AND status IN (:sources)
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Payment> transition(@Param("id") Long id,
+            @Param("target") String target,
+            @Param("sources") Collection<String> sources,
+            @Param("note") String note,
+            @Param("now") LocalDateTime now);
 }
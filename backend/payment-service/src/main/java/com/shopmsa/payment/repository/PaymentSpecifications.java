@@ -0,0 +1,58 @@
+package com.shopmsa.payment.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.shopmsa.payment.dto.PaymentCursor;
+import com.shopmsa.payment.dto.PaymentSearchCondition;
+import com.shopmsa.payment.entity.Payment;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * 결제 목록 조회 조건
+ */
+public final class PaymentSpecifications {
+
+    private PaymentSpecifications() {
+    }
+
+    /**
+     * 값이 있는 조건만 AND 로 결합
+     */
+    public static Specification<Payment> matching(PaymentSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (condition.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), condition.getStatus()));
+            }
+            if (condition.getUserId() != null) {
+                predicates.add(cb.equal(root.get("userId"), condition.getUserId()));
+            }
+            if (condition.getOrderId() != null) {
+                predicates.add(cb.equal(root.get("orderId"), condition.getOrderId()));
+            }
+            if (condition.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), condition.getFrom()));
+            }
+            if (condition.getTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), condition.getTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * (createdAt, id) 내림차순에서 커서 다음 행
+     * createdAt < ? OR (createdAt = ? AND id < ?) - (created_at, id) 인덱스 범위 탐색
+     */
+    public static Specification<Payment> after(PaymentCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
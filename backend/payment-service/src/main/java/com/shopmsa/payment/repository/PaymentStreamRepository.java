@@ -0,0 +1,19 @@
+package com.shopmsa.payment.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.shopmsa.payment.entity.Payment;
+
+/**
+ * 결제 스트리밍 조회 (PaymentRepository 에 포함되는 커스텀 구현)
+ */
+public interface PaymentStreamRepository {
+
+    /**
+     * 조건에 맞는 결제를 id 순으로 fetchSize 개씩 읽어 오는 스트림
+     * 트랜잭션 안에서 호출하고 사용 후 닫아야 함
+     */
+    Stream<Payment> stream(Specification<Payment> specification, int fetchSize);
+}
@@ -0,0 +1,36 @@
+package com.shopmsa.payment.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.shopmsa.payment.entity.Payment;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PaymentStreamRepositoryImpl implements PaymentStreamRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<Payment> stream(Specification<Payment> specification, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Payment> query = cb.createQuery(Payment.class);
+        Root<Payment> root = query.from(Payment.class);
+        query.where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        // PostgreSQL 드라이버는 트랜잭션 안(autocommit off)에서만 fetch size 만큼 커서로 읽음
+        // 읽은 엔티티는 바로 영속성 컨텍스트에서 분리해 메모리 사용량을 일정하게 유지
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+}
@@ -0,0 +1,211 @@
+package com.shopmsa.payment.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shopmsa.payment.config.PaymentBatchProperties;
+import com.shopmsa.payment.dto.PaymentBatchResponse;
+import com.shopmsa.payment.dto.PaymentBatchResponse.ItemResult;
+import com.shopmsa.payment.dto.PaymentBatchResponse.Outcome;
+import com.shopmsa.payment.dto.PaymentRequest;
+import com.shopmsa.payment.entity.Payment;
+import com.shopmsa.payment.event.EventEnvelope;
+import com.shopmsa.payment.outbox.OutboxWriter;
+import com.shopmsa.payment.repository.PaymentRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 일괄 등록 (정산 파일 등 대량 등록용)
+ *
+ * - 항목별로 검증해 실패한 항목만 FAILED 로 표시하고 나머지는 계속 처리
+ * - 항목마다 externalId 가 필수이며, 이미 같은 externalId 의 결제가 있으면 새로 만들지 않고 EXISTING 으로 응답
+ *   (응답을 받지 못해 같은 파일을 다시 보내도 결제가 중복 생성되지 않음)
+ * - chunkSize 개씩 한 트랜잭션으로 저장 (시퀀스 pooled 할당 + hibernate.jdbc.batch_size 로 INSERT 를 배치 전송)
+ * - 결제 생성 이벤트도 같은 트랜잭션의 Outbox 에 저장되어 Relay 가 배치로 발행
+ * - 청크 저장이 실패하면 해당 청크의 항목만 FAILED (이전 청크는 이미 커밋됨)
+ */
+@Slf4j
+@Service
+public class PaymentBatchService {
+    private final PaymentRepository paymentRepository;
+    private final OutboxWriter outboxWriter;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentBatchProperties properties;
+
+    public PaymentBatchService(PaymentRepository paymentRepository,
+            OutboxWriter outboxWriter,
+            Validator validator,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            PaymentBatchProperties properties) {
+        this.paymentRepository = paymentRepository;
+        this.outboxWriter = outboxWriter;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public PaymentBatchResponse createPayments(List<PaymentRequest> requests) {
+        if (requests.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException(
+                    "Too many payments: " + requests.size() + " (max " + properties.getMaxItems() + ")");
+        }
+        log.info("Creating {} payments in batch", requests.size());
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        Map<String, Integer> firstIndexes = new HashMap<>();
+        List<Integer> chunk = new ArrayList<>(properties.getChunkSize());
+        for (int index = 0; index < requests.size(); index++) {
+            String error = validate(requests.get(index));
+            if (error != null) {
+                results[index] = failed(index, error);
+                continue;
+            }
+            Integer firstIndex = firstIndexes.putIfAbsent(requests.get(index).getExternalId(), index);
+            if (firstIndex != null) {
+                results[index] = failed(index, "Duplicate externalId in batch (same as item " + firstIndex + ")");
+                continue;
+            }
+            chunk.add(index);
+            if (chunk.size() == properties.getChunkSize()) {
+                saveChunk(requests, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(requests, chunk, results);
+        }
+
+        int created = count(results, Outcome.CREATED);
+        int existing = count(results, Outcome.EXISTING);
+        int failed = requests.size() - created - existing;
+        log.info("Batch payment creation finished: {} created, {} existing, {} failed", created, existing, failed);
+        return PaymentBatchResponse.builder()
+                .total(requests.size())
+                .succeeded(created + existing)
+                .existing(existing)
+                .failed(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void saveChunk(List<PaymentRequest> requests, List<Integer> indexes, ItemResult[] results) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<ItemResult> saved = saveNew(requests, indexes);
+                for (ItemResult result : saved) {
+                    results[result.getIndex()] = result;
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 같은 externalId 를 동시에 등록한 다른 요청과 충돌 - 기존 결제를 다시 조회해 한 번 더 시도
+                if (attempt == 1 && e instanceof DataIntegrityViolationException) {
+                    log.warn("Batch payment chunk conflicted with a concurrent insert, retrying: {}", e.getMessage());
+                    continue;
+                }
+                log.error("Batch payment chunk failed ({} items): {}", indexes.size(), e.getMessage());
+                for (int index : indexes) {
+                    results[index] = failed(index, "Chunk rolled back: " + e.getMessage());
+                }
+                return;
+            } finally {
+                // 요청 스레드의 영속성 컨텍스트(open-in-view)에 저장한 엔티티가 계속 쌓이지 않도록
+                entityManager.clear();
+            }
+        }
+    }
+
+    /**
+     * 청크를 한 트랜잭션으로 저장 (이미 있는 externalId 는 기존 결제로 응답)
+     *
+     * @return 항목별 결과 (indexes 순서)
+     */
+    private List<ItemResult> saveNew(List<PaymentRequest> requests, List<Integer> indexes) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Payment> existing = new HashMap<>();
+            List<String> externalIds = indexes.stream()
+                    .map(index -> requests.get(index).getExternalId())
+                    .toList();
+            for (Payment payment : paymentRepository.findByExternalIdIn(externalIds)) {
+                existing.put(payment.getExternalId(), payment);
+            }
+
+            List<Payment> created = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                if (!existing.containsKey(requests.get(index).getExternalId())) {
+                    created.add(PaymentService.newPayment(requests.get(index)));
+                }
+            }
+            paymentRepository.saveAll(created);
+            for (Payment payment : created) {
+                outboxWriter.append(PaymentService.PAYMENT_EVENTS_TOPIC,
+                        EventEnvelope.of("PAYMENT_CREATED", payment.getId()));
+            }
+
+            List<ItemResult> results = new ArrayList<>(indexes.size());
+            int next = 0;
+            for (int index : indexes) {
+                Payment payment = existing.get(requests.get(index).getExternalId());
+                Outcome outcome = Outcome.EXISTING;
+                if (payment == null) {
+                    payment = created.get(next++);
+                    outcome = Outcome.CREATED;
+                }
+                results.add(ItemResult.builder()
+                        .index(index)
+                        .outcome(outcome)
+                        .paymentId(payment.getId())
+                        .transactionId(payment.getTransactionId())
+                        .build());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * @return 검증 오류 메시지 (정상이면 null)
+     */
+    private String validate(PaymentRequest request) {
+        if (request == null) {
+            return "Payment is required";
+        }
+        if (request.getExternalId() == null || request.getExternalId().isBlank()) {
+            return "externalId: External ID is required for batch items";
+        }
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static int count(ItemResult[] results, Outcome outcome) {
+        return (int) Arrays.stream(results).filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    private static ItemResult failed(int index, String error) {
+        return ItemResult.builder()
+                .index(index)
+                .outcome(Outcome.FAILED)
+                .error(error)
+                .build();
+    }
+}
@@ -1,63 +1,91 @@
 package com.shopmsa.payment.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.shopmsa.payment.config.RedisConfig;
+import com.shopmsa.payment.dto.PaymentCursor;
+import com.shopmsa.payment.dto.PaymentPageResponse;
 import com.shopmsa.payment.dto.PaymentRequest;
 import com.shopmsa.payment.dto.PaymentResponse;
+import com.shopmsa.payment.dto.PaymentSearchCondition;
 import com.shopmsa.payment.entity.Payment;
+import com.shopmsa.payment.event.EventEnvelope;
 import com.shopmsa.payment.exception.PaymentNotFoundException;
+import com.shopmsa.payment.outbox.OutboxWriter;
 import com.shopmsa.payment.repository.PaymentRepository;
+import com.shopmsa.payment.repository.PaymentSpecifications;
+import com.shopmsa.payment.support.GatewayCacheInvalidator;
+import com.shopmsa.payment.support.TimeOrderedIdGenerator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class PaymentService {
+    static final String PAYMENT_EVENTS_TOPIC = "payment-events";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // 내보내기 시 DB 커서에서 한 번에 읽는 행 수
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final PaymentRepository paymentRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
+    private final PaymentTransitionEngine paymentTransitionEngine;
+    private final GatewayCacheInvalidator gatewayCacheInvalidator;
+    private final JsonMapper jsonMapper;
     
     @Transactional
-    @CacheEvict(value = "payments", allEntries = true)
+    @Caching(put = {
+            @CachePut(value = RedisConfig.PAYMENTS_CACHE, key = "#result.id"),
+            @CachePut(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#result.transactionId")
+    })
     public PaymentResponse createPayment(PaymentRequest request) {
         log.info("Creating payment for order: {}", request.getOrderId());
         
-        // 트랜잭션 ID 생성
-        String transactionId = UUID.randomUUID().toString();
-        
-        Payment payment = Payment.builder()
-                .orderId(request.getOrderId())
-                .userId(request.getUserId())
-                .amount(request.getAmount())
-                .paymentMethod(request.getPaymentMethod())
-                .status(Payment.PaymentStatus.PENDING)
-                .transactionId(transactionId)
-                .description(request.getDescription())
-                .build();
+        // 같은 참조 ID 로 이미 생성된 결제가 있으면 그대로 반환 (클라이언트 재시도)
+        if (request.getExternalId() != null) {
+            Optional<Payment> existing = paymentRepository.findByExternalId(request.getExternalId());
+            if (existing.isPresent()) {
+                log.info("Payment already exists for external ID: {}", request.getExternalId());
+                return PaymentResponse.from(existing.get());
+            }
+        }
         
-        Payment savedPayment = paymentRepository.save(payment);
+        Payment savedPayment = paymentRepository.save(newPayment(request));
         
-        // Kafka 이벤트 발행
-        kafkaTemplate.send("payment-events", 
-                "PAYMENT_CREATED:" + savedPayment.getId());
+        // 이벤트 발행 (Outbox - 커밋 후 Relay 가 Kafka 로 전송)
+        publishEvent(EventEnvelope.of("PAYMENT_CREATED", savedPayment.getId()));
         
         log.info("Payment created: {} with transaction ID: {}", 
-                savedPayment.getId(), transactionId);
+                savedPayment.getId(), savedPayment.getTransactionId());
         
         return PaymentResponse.from(savedPayment);
     }
     
-    @Cacheable(value = "payments", key = "#id")
+    @Cacheable(value = RedisConfig.PAYMENTS_CACHE, key = "#id")
     public PaymentResponse getPaymentById(Long id) {
         log.info("Getting payment by id: {}", id);
         Payment payment = paymentRepository.findById(id)
@@ -65,7 +93,7 @@ public class PaymentService {
         return PaymentResponse.from(payment);
     }
     
-    @Cacheable(value = "payments", key = "#transactionId")
+    @Cacheable(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#transactionId")
     public PaymentResponse getPaymentByTransactionId(String transactionId) {
         log.info("Getting payment by transaction ID: {}", transactionId);
         Payment payment = paymentRepository.findByTransactionId(transactionId)
@@ -88,105 +116,160 @@ public class PaymentService {
                 .collect(Collectors.toList());
     }
     
-    @Cacheable(value = "payments")
-    public List<PaymentResponse> getAllPayments() {
-        log.info("Getting all payments");
-        return paymentRepository.findAll().stream()
-                .map(PaymentResponse::from)
-                .collect(Collectors.toList());
+    /**
+     * 결제 목록 (최신순 Keyset 페이지네이션)
+     * OFFSET 없이 커서 다음 행부터 읽으므로 페이지가 뒤로 가도 비용이 같음
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public PaymentPageResponse searchPayments(PaymentSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        log.info("Searching payments: {} (cursor: {}, size: {})", condition, cursor, pageSize);
+
+        Specification<Payment> specification = PaymentSpecifications.matching(condition);
+        if (cursor != null && !cursor.isBlank()) {
+            specification = specification.and(PaymentSpecifications.after(PaymentCursor.decode(cursor)));
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Payment> payments = paymentRepository.findBy(specification,
+                query -> query.sortBy(NEWEST_FIRST).limit(pageSize + 1).all());
+
+        boolean hasNext = payments.size() > pageSize;
+        List<Payment> page = hasNext ? payments.subList(0, pageSize) : payments;
+        return PaymentPageResponse.builder()
+                .items(page.stream().map(PaymentResponse::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? PaymentCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 조건에 맞는 결제를 NDJSON (한 줄에 결제 하나) 으로 출력
+     * DB 커서로 EXPORT_FETCH_SIZE 개씩 읽어 바로 쓰므로 결과 건수와 관계없이 메모리 사용량이 일정
+     */
+    public void exportPayments(PaymentSearchCondition condition, OutputStream out) throws IOException {
+        log.info("Exporting payments: {}", condition);
+        long count = 0;
+        try (Stream<Payment> payments = paymentRepository.stream(
+                PaymentSpecifications.matching(condition), EXPORT_FETCH_SIZE)) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                out.write(jsonMapper.writeValueAsBytes(PaymentResponse.from(iterator.next())));
+                out.write('\n');
+                count++;
+            }
+        }
+        out.flush();
+        log.info("Exported {} payments", count);
     }
     
     @Transactional
-    @CacheEvict(value = "payments", allEntries = true)
+    @Caching(put = {
+            @CachePut(value = RedisConfig.PAYMENTS_CACHE, key = "#result.id"),
+            @CachePut(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#result.transactionId")
+    })
     public PaymentResponse completePayment(Long id) {
         log.info("Completing payment: {}", id);
         
-        Payment payment = paymentRepository.findById(id)
-                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + id));
+        // 조건부 UPDATE 한 번으로 상태 확인 + 변경 (동시 요청 중 한 건만 성공)
+        Payment updatedPayment = paymentTransitionEngine.apply(id, PaymentTransition.COMPLETE);
         
-        if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
-            throw new IllegalStateException(
-                    "Payment can only be completed from PENDING status");
-        }
-        
-        payment.setStatus(Payment.PaymentStatus.COMPLETED);
-        Payment updatedPayment = paymentRepository.save(payment);
-        
-        // Kafka 이벤트 발행
-        kafkaTemplate.send("payment-events", 
-                "PAYMENT_COMPLETED:" + updatedPayment.getId());
+        // 이벤트 발행 (Outbox - 커밋 후 Relay 가 Kafka 로 전송)
+        publishEvent(EventEnvelope.of("PAYMENT_COMPLETED", updatedPayment.getId()));
+        invalidateGatewayCache(updatedPayment);
         
         log.info("Payment completed: {}", updatedPayment.getId());
         return PaymentResponse.from(updatedPayment);
     }
     
     @Transactional
-    @CacheEvict(value = "payments", allEntries = true)
+    @Caching(put = {
+            @CachePut(value = RedisConfig.PAYMENTS_CACHE, key = "#result.id"),
+            @CachePut(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#result.transactionId")
+    })
     public PaymentResponse failPayment(Long id, String reason) {
         log.info("Failing payment: {} with reason: {}", id, reason);
         
-        Payment payment = paymentRepository.findById(id)
-                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + id));
-        
-        payment.setStatus(Payment.PaymentStatus.FAILED);
-        payment.setDescription(
-                (payment.getDescription() != null ? payment.getDescription() + " | " : "") 
-                + "Failed: " + reason);
+        Payment updatedPayment = paymentTransitionEngine.apply(id, PaymentTransition.FAIL, "Failed: " + reason);
         
-        Payment updatedPayment = paymentRepository.save(payment);
-        
-        // Kafka 이벤트 발행
-        kafkaTemplate.send("payment-events", 
-                "PAYMENT_FAILED:" + updatedPayment.getId() + ":" + reason);
+        // 이벤트 발행 (Outbox - 커밋 후 Relay 가 Kafka 로 전송)
+        publishEvent(EventEnvelope.of("PAYMENT_FAILED", updatedPayment.getId(),
+                Map.of("reason", String.valueOf(reason))));
+        invalidateGatewayCache(updatedPayment);
         
         log.info("Payment failed: {}", updatedPayment.getId());
         return PaymentResponse.from(updatedPayment);
     }
     
     @Transactional
-    @CacheEvict(value = "payments", allEntries = true)
+    @Caching(put = {
+            @CachePut(value = RedisConfig.PAYMENTS_CACHE, key = "#result.id"),
+            @CachePut(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#result.transactionId")
+    })
     public PaymentResponse refundPayment(Long id) {
         log.info("Refunding payment: {}", id);
         
-        Payment payment = paymentRepository.findById(id)
-                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + id));
-        
-        if (payment.getStatus() != Payment.PaymentStatus.COMPLETED) {
-            throw new IllegalStateException(
-                    "Only completed payments can be refunded");
-        }
-        
-        payment.setStatus(Payment.PaymentStatus.REFUNDED);
-        Payment updatedPayment = paymentRepository.save(payment);
+        Payment updatedPayment = paymentTransitionEngine.apply(id, PaymentTransition.REFUND);
         
-        // Kafka 이벤트 발행
-        kafkaTemplate.send("payment-events", 
-                "PAYMENT_REFUNDED:" + updatedPayment.getId());
+        // 이벤트 발행 (Outbox - 커밋 후 Relay 가 Kafka 로 전송)
+        publishEvent(EventEnvelope.of("PAYMENT_REFUNDED", updatedPayment.getId()));
+        invalidateGatewayCache(updatedPayment);
         
         log.info("Payment refunded: {}", updatedPayment.getId());
         return PaymentResponse.from(updatedPayment);
     }
     
     @Transactional
-    @CacheEvict(value = "payments", allEntries = true)
-    public void cancelPayment(Long id) {
+    @Caching(put = {
+            @CachePut(value = RedisConfig.PAYMENTS_CACHE, key = "#result.id"),
+            @CachePut(value = RedisConfig.PAYMENTS_BY_TRANSACTION_CACHE, key = "#result.transactionId")
+    })
+    public PaymentResponse cancelPayment(Long id) {
         log.info("Cancelling payment: {}", id);
         
-        Payment payment = paymentRepository.findById(id)
-                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + id));
+        Payment cancelledPayment = paymentTransitionEngine.apply(id, PaymentTransition.CANCEL);
         
-        if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
-            throw new IllegalStateException(
-                    "Only pending payments can be cancelled");
-        }
-        
-        payment.setStatus(Payment.PaymentStatus.CANCELLED);
-        paymentRepository.save(payment);
-        
-        // Kafka 이벤트 발행
-        kafkaTemplate.send("payment-events", 
-                "PAYMENT_CANCELLED:" + id);
+        // 이벤트 발행 (Outbox - 커밋 후 Relay 가 Kafka 로 전송)
+        publishEvent(EventEnvelope.of("PAYMENT_CANCELLED", id));
+        invalidateGatewayCache(cancelledPayment);
         
         log.info("Payment cancelled: {}", id);
+        return PaymentResponse.from(cancelledPayment);
+    }
+
+    /**
+     * 신규 결제 (PENDING)
+     */
+    static Payment newPayment(PaymentRequest request) {
+        // 트랜잭션 ID 생성 (시간 순서 UUID v7 - 인덱스 순차 삽입)
+        String transactionId = TimeOrderedIdGenerator.nextUuid().toString();
+
+        return Payment.builder()
+                .orderId(request.getOrderId())
+                .userId(request.getUserId())
+                .amount(request.getAmount())
+                .paymentMethod(request.getPaymentMethod())
+                .status(Payment.PaymentStatus.PENDING)
+                .transactionId(transactionId)
+                .externalId(request.getExternalId())
+                .description(request.getDescription())
+                .build();
+    }
+
+    /**
+     * 결제 이벤트를 현재 트랜잭션의 Outbox 에 저장 (결제 ID 를 메시지 키로 사용)
+     */
+    private void publishEvent(EventEnvelope event) {
+        outboxWriter.append(PAYMENT_EVENTS_TOPIC, event);
+    }
+
+    /**
+     * Gateway 응답 캐시 무효화 (ID / 거래 ID 조회 경로)
+     */
+    private void invalidateGatewayCache(Payment payment) {
+        gatewayCacheInvalidator.invalidate(
+                "/api/payments/" + payment.getId(),
+                "/api/payments/transaction/" + payment.getTransactionId());
     }
 }
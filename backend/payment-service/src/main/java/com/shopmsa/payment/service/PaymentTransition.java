@@ -0,0 +1,47 @@
+package com.shopmsa.payment.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.shopmsa.payment.entity.Payment.PaymentStatus;
+
+/**
+ * 결제 상태 전이 테이블
+ * 전이마다 허용되는 이전 상태와 다음 상태를 선언하고, PaymentTransitionEngine 이 조건부 UPDATE 한 번으로 적용
+ */
+public enum PaymentTransition {
+    COMPLETE(PaymentStatus.COMPLETED, EnumSet.of(PaymentStatus.PENDING),
+            "Payment can only be completed from PENDING status"),
+    FAIL(PaymentStatus.FAILED, EnumSet.of(PaymentStatus.PENDING),
+            "Payment can only be failed from PENDING status"),
+    REFUND(PaymentStatus.REFUNDED, EnumSet.of(PaymentStatus.COMPLETED),
+            "Only completed payments can be refunded"),
+    CANCEL(PaymentStatus.CANCELLED, EnumSet.of(PaymentStatus.PENDING),
+            "Only pending payments can be cancelled");
+
+    private final PaymentStatus target;
+    private final Set<PaymentStatus> sources;
+    private final String rejectMessage;
+
+    PaymentTransition(PaymentStatus target, Set<PaymentStatus> sources, String rejectMessage) {
+        this.target = target;
+        this.sources = sources;
+        this.rejectMessage = rejectMessage;
+    }
+
+    public PaymentStatus target() {
+        return target;
+    }
+
+    /**
+     * 조건부 UPDATE 에 바인딩할 이전 상태 목록
+     */
+    List<String> sourceNames() {
+        return sources.stream().map(Enum::name).toList();
+    }
+
+    String rejectMessage() {
+        return rejectMessage;
+    }
+}
@@ -0,0 +1,52 @@
+package com.shopmsa.payment.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shopmsa.payment.entity.Payment;
+import com.shopmsa.payment.exception.PaymentNotFoundException;
+import com.shopmsa.payment.repository.PaymentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 상태 전이
+ *
+ * UPDATE payments SET status = ? WHERE id = ? AND status IN (...) RETURNING * 한 번으로
+ * 상태 확인과 변경을 함께 처리 (조회 → 저장 두 번 왕복 대신 한 번, 엔티티 로딩 없음).
+ * 상태 조건이 UPDATE 에 포함되므로 같은 결제를 동시에 전이해도 한 요청만 성공 (비관적 잠금 불필요).
+ *
+ * 변경된 행이 없을 때만 상태를 다시 조회해 404 / 잘못된 상태 전환을 구분
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentTransitionEngine {
+    private final PaymentRepository paymentRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Payment apply(Long id, PaymentTransition transition) {
+        return apply(id, transition, null);
+    }
+
+    /**
+     * @param note 설명에 덧붙일 내용 (null 이면 설명 유지)
+     * @throws PaymentNotFoundException 결제가 없는 경우
+     * @throws IllegalStateException    현재 상태에서 허용되지 않는 전이인 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Payment apply(Long id, PaymentTransition transition, String note) {
+        return paymentRepository.transition(id, transition.target().name(), transition.sourceNames(),
+                        note, LocalDateTime.now())
+                .orElseThrow(() -> rejection(id, transition));
+    }
+
+    private RuntimeException rejection(Long id, PaymentTransition transition) {
+        if (!paymentRepository.existsById(id)) {
+            return new PaymentNotFoundException("Payment not found: " + id);
+        }
+        return new IllegalStateException(transition.rejectMessage());
+    }
+}
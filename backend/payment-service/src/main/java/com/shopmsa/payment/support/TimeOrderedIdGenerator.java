@@ -0,0 +1,47 @@
+package com.shopmsa.payment.support;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순서 UUID (v7) 생성기
+ *
+ * [48bit Unix ms][4bit version=7][12bit 시퀀스][2bit variant][62bit 랜덤]
+ * - 거래 ID 는 외부에 노출되고 조회 키로 쓰이므로 랜덤 62bit 는 SecureRandom 으로 생성 (추측 불가)
+ * - 시퀀스 시작값은 보안과 무관하므로 ThreadLocalRandom 사용 (스레드별 상태)
+ * - 앞자리가 시간 순이므로 transaction_id 유니크 인덱스(B-tree)에 순차 삽입됨
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    // 스레드 안전 - 기본 구현은 논블로킹 (/dev/urandom)
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private TimeOrderedIdGenerator() {
+    }
+
+    public static UUID nextUuid() {
+        State state = STATE.get();
+
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            state.sequence = ThreadLocalRandom.current().nextInt(0x800);
+        } else if (++state.sequence > 0xFFF) {
+            // 같은 ms 안에서 시퀀스를 다 쓰면 다음 ms 로 넘어감 (단조 증가 유지)
+            state.lastMillis++;
+            state.sequence = 0;
+        }
+
+        long mostSigBits = (state.lastMillis << 16) | 0x7000L | state.sequence;
+        long leastSigBits = (SECURE_RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class State {
+        private long lastMillis;
+        private int sequence;
+    }
+}
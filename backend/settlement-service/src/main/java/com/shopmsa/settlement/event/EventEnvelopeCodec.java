@@ -0,0 +1,104 @@
+package com.shopmsa.settlement.event;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EventEnvelope 바이너리 형식 (외부 스키마 레지스트리 없음)
+ *
+ * <pre>
+ * [1 byte 형식 버전][type][aggregateId][varint version][varint timestamp ms]
+ * [varint payload 개수][key][value]...
+ * 문자열은 [varint 길이][UTF-8]
+ * </pre>
+ *
+ * 필드 이름 / 구분자를 싣지 않으므로 "TYPE:id:..." 문자열보다 작고 파싱이 단순.
+ * 필드 구성이 바뀌면 FORMAT_VERSION 을 올리고 decode 에서 이전 형식도 계속 읽도록 유지
+ */
+public final class EventEnvelopeCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private EventEnvelopeCodec() {
+    }
+
+    public static byte[] encode(EventEnvelope event) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+        writeString(out, event.type());
+        writeString(out, event.aggregateId());
+        writeVarLong(out, event.version());
+        writeVarLong(out, event.timestamp().toEpochMilli());
+        writeVarLong(out, event.payload().size());
+        event.payload().forEach((key, value) -> {
+            writeString(out, key);
+            writeString(out, value);
+        });
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 형식 버전 / 잘린 메시지
+     */
+    public static EventEnvelope decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            byte format = in.get();
+            if (format != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported event format version: " + format);
+            }
+            String type = readString(in);
+            String aggregateId = readString(in);
+            int version = (int) readVarLong(in);
+            Instant timestamp = Instant.ofEpochMilli(readVarLong(in));
+            int size = (int) readVarLong(in);
+            Map<String, String> payload = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                payload.put(readString(in), readString(in));
+            }
+            return new EventEnvelope(type, aggregateId, version, timestamp, payload);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated event message", e);
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 7bit 단위 가변 길이 정수 (작은 값일수록 적은 바이트)
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.shopmsa.settlement.dto.SettlementRequest;
 import com.shopmsa.settlement.dto.SettlementResponse;
 import com.shopmsa.settlement.entity.Settlement;
+import com.shopmsa.settlement.event.EventEnvelope;
 import com.shopmsa.settlement.exception.SettlementNotFoundException;
 import com.shopmsa.settlement.repository.SettlementRepository;
 
@@ -24,8 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Transactional(readOnly = true)
 public class SettlementService {
+    private static final String EVENTS_TOPIC = "settlement-events";
+
     private final SettlementRepository settlementRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
     
     @Transactional
     @CacheEvict(value = "settlements", allEntries = true)
@@ -47,7 +50,7 @@ public class SettlementService {
         
         Settlement saved = settlementRepository.save(settlement);
         
-        kafkaTemplate.send("settlement-events", "SETTLEMENT_CREATED:" + saved.getId());
+        publishEvent(EventEnvelope.of("SETTLEMENT_CREATED", saved.getId()));
         
         return SettlementResponse.from(saved);
     }
@@ -91,7 +94,7 @@ public class SettlementService {
         settlement.setStatus(Settlement.SettlementStatus.PROCESSING);
         Settlement updated = settlementRepository.save(settlement);
         
-        kafkaTemplate.send("settlement-events", "SETTLEMENT_PROCESSING:" + updated.getId());
+        publishEvent(EventEnvelope.of("SETTLEMENT_PROCESSING", updated.getId()));
         
         return SettlementResponse.from(updated);
     }
@@ -105,7 +108,7 @@ public class SettlementService {
         settlement.setStatus(Settlement.SettlementStatus.COMPLETED);
         Settlement updated = settlementRepository.save(settlement);
         
-        kafkaTemplate.send("settlement-events", "SETTLEMENT_COMPLETED:" + updated.getId());
+        publishEvent(EventEnvelope.of("SETTLEMENT_COMPLETED", updated.getId()));
         
         return SettlementResponse.from(updated);
     }
@@ -123,7 +126,7 @@ public class SettlementService {
         
         Settlement updated = settlementRepository.save(settlement);
         
-        kafkaTemplate.send("settlement-events", "SETTLEMENT_FAILED:" + updated.getId());
+        publishEvent(EventEnvelope.of("SETTLEMENT_FAILED", updated.getId()));
         
         return SettlementResponse.from(updated);
     }
@@ -137,6 +140,13 @@ public class SettlementService {
         settlement.setStatus(Settlement.SettlementStatus.CANCELLED);
         settlementRepository.save(settlement);
         
-        kafkaTemplate.send("settlement-events", "SETTLEMENT_CANCELLED:" + id);
+        publishEvent(EventEnvelope.of("SETTLEMENT_CANCELLED", id));
+    }
+
+    /**
+     * 이벤트 발행 (집계 ID 를 메시지 키로 사용 - 같은 집계의 이벤트는 같은 파티션에서 순서 유지)
+     */
+    private void publishEvent(EventEnvelope event) {
+        kafkaTemplate.send(EVENTS_TOPIC, event.aggregateId(), event);
     }
 }
@@ -12,6 +12,9 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
+import com.shopmsa.user.event.EventEnvelope;
+import com.shopmsa.user.event.EventEnvelopeSerializer;
+
 @Configuration
 public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
@@ -21,11 +24,12 @@ public class KafkaConfig {
      * Kafka Producer 설정
      */
     @Bean
-    ProducerFactory<String, String> producerFactory() {
+    ProducerFactory<String, EventEnvelope> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // 키: 집계 ID / 값: EventEnvelope 바이너리
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventEnvelopeSerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         
@@ -36,7 +40,7 @@ public class KafkaConfig {
      * KafkaTemplate 설정
      */
     @Bean
-    KafkaTemplate<String, String> kafkaTemplate() {
+    KafkaTemplate<String, EventEnvelope> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
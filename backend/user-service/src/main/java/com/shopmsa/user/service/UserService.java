@@ -12,8 +12,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.shopmsa.user.dto.UserRequest;
 import com.shopmsa.user.dto.UserResponse;
 import com.shopmsa.user.entity.User;
+import com.shopmsa.user.event.EventEnvelope;
 import com.shopmsa.user.exception.UserNotFoundException;
 import com.shopmsa.user.repository.UserRepository;
+import com.shopmsa.user.support.GatewayCacheInvalidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,9 +25,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Transactional(readOnly = true)
 public class UserService {
+    private static final String EVENTS_TOPIC = "user-events";
     
     private final UserRepository userRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
+    private final GatewayCacheInvalidator gatewayCacheInvalidator;
 
     @Transactional
     @CacheEvict(value = "users", allEntries = true)
@@ -52,8 +56,7 @@ public class UserService {
         User savedUser = userRepository.save(user);
         
         // Kafka 이벤트 발행
-        kafkaTemplate.send("user-events", 
-                "USER_CREATED:" + savedUser.getId());
+        publishEvent(EventEnvelope.of("USER_CREATED", savedUser.getId()));
         
         log.info("User created successfully: {}", savedUser.getId());
         return UserResponse.from(savedUser);
@@ -97,8 +100,8 @@ public class UserService {
         User updatedUser = userRepository.save(user);
         
         // Kafka 이벤트 발행
-        kafkaTemplate.send("user-events", 
-                "USER_UPDATED:" + updatedUser.getId());
+        publishEvent(EventEnvelope.of("USER_UPDATED", updatedUser.getId()));
+        invalidateGatewayCache(updatedUser);
         
         log.info("User updated successfully: {}", updatedUser.getId());
         return UserResponse.from(updatedUser);
@@ -116,9 +119,25 @@ public class UserService {
         userRepository.save(user);
         
         // Kafka 이벤트 발행
-        kafkaTemplate.send("user-events", 
-                "USER_DELETED:" + id);
+        publishEvent(EventEnvelope.of("USER_DELETED", id));
+        invalidateGatewayCache(user);
         
         log.info("User deleted successfully: {}", id);
     }
+
+    /**
+     * Gateway 응답 캐시 무효화 (ID / username 조회 경로)
+     */
+    private void invalidateGatewayCache(User user) {
+        gatewayCacheInvalidator.invalidate(
+                "/api/users/" + user.getId(),
+                "/api/users/username/" + user.getUsername());
+    }
+
+    /**
+     * 이벤트 발행 (집계 ID 를 메시지 키로 사용 - 같은 집계의 이벤트는 같은 파티션에서 순서 유지)
+     */
+    private void publishEvent(EventEnvelope event) {
+        kafkaTemplate.send(EVENTS_TOPIC, event.aggregateId(), event);
+    }
 }
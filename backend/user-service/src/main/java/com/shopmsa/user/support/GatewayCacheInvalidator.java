@@ -0,0 +1,56 @@
+package com.shopmsa.user.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API Gateway 응답 캐시 무효화 발행
+ * 쓰기 작업이 커밋된 뒤 변경된 리소스 경로를 Redis Pub/Sub 채널로 발행
+ * (Gateway 는 해당 경로와 하위 경로의 캐시를 제거)
+ */
+@Slf4j
+@Component
+public class GatewayCacheInvalidator {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public GatewayCacheInvalidator(StringRedisTemplate redisTemplate,
+            @Value("${gateway.cache-invalidation.channel:gateway:cache-invalidation}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 발행
+     * (롤백된 변경으로 캐시를 비우거나, 커밋 전에 비워 이전 값이 다시 캐시되는 일을 방지)
+     */
+    public void invalidate(String... paths) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(paths);
+                }
+            });
+        } else {
+            publish(paths);
+        }
+    }
+
+    private void publish(String... paths) {
+        for (String path : paths) {
+            try {
+                redisTemplate.convertAndSend(channel, path);
+            } catch (RuntimeException e) {
+                // 발행 실패 시 Gateway 캐시는 TTL 로 만료됨
+                log.warn("Failed to publish gateway cache invalidation: {} - {}", path, e.getMessage());
+            }
+        }
+    }
+}